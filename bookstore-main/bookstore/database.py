@@ -1,3 +1,4 @@
+import os
 from typing import Optional
 
 from sqlalchemy import create_engine
@@ -5,7 +6,7 @@ from sqlalchemy.ext.declarative import declarative_base
 from sqlalchemy.orm import sessionmaker
 from sqlmodel import Field, SQLModel
 
-DATABASE_URL = "sqlite:///./test.db"  # Example using SQLite
+DATABASE_URL = os.getenv("DATABASE_URL", "sqlite:///./test.db")  # Example using SQLite
 Base = declarative_base()
 
 
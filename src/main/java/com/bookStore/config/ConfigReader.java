@@ -44,4 +44,13 @@ public class ConfigReader {
         }
         return value;
     }
+
+    // System properties (-Dkey=value) take precedence so benchmark runs can be tuned from the command line
+    public static String getProperty(String key, String defaultValue) {
+        String value = System.getProperty(key, properties.getProperty(key));
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        return value.trim();
+    }
 }
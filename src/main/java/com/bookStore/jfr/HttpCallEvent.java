@@ -0,0 +1,61 @@
+package com.bookStore.jfr;
+
+import io.restassured.response.Response;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+@Name("com.bookstore.HttpCall")
+@Label("HTTP Call")
+@Category({"Bookstore", "HTTP"})
+@Description("One RestAssured request made through RestUtil or ApiRequestUtil")
+@StackTrace(false)
+public class HttpCallEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Status")
+    @Description("HTTP status code, or -1 when no response was received")
+    int status;
+
+    @Label("Response Size")
+    @DataAmount
+    long responseBytes;
+
+    @Label("Scenario")
+    String scenario;
+
+    @Label("Step")
+    String step;
+
+    // Field population and the body size lookup are skipped unless a recording has this event enabled
+    public static Response record(String method, String endpoint, Supplier<Response> call) {
+        HttpCallEvent event = new HttpCallEvent();
+        event.begin();
+        Response response = null;
+        try {
+            response = call.get();
+            return response;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = method;
+                event.endpoint = endpoint;
+                event.status = response != null ? response.getStatusCode() : -1;
+                event.responseBytes = response != null ? response.asByteArray().length : 0;
+                event.scenario = JfrContext.getScenario();
+                event.step = JfrContext.getStep();
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.bookStore.jfr;
+
+/**
+ * Scenario and step currently executing on this thread, so HTTP events can be
+ * lined up with the Cucumber step that issued them.
+ */
+public class JfrContext {
+
+    private static final ThreadLocal<String> SCENARIO = new ThreadLocal<>();
+    private static final ThreadLocal<String> STEP = new ThreadLocal<>();
+
+    public static void setScenario(String scenario) {
+        SCENARIO.set(scenario);
+    }
+
+    public static String getScenario() {
+        return SCENARIO.get();
+    }
+
+    public static void setStep(String step) {
+        STEP.set(step);
+    }
+
+    public static String getStep() {
+        return STEP.get();
+    }
+
+    public static void clear() {
+        SCENARIO.remove();
+        STEP.remove();
+    }
+}
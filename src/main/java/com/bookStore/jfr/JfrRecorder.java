@@ -0,0 +1,56 @@
+package com.bookStore.jfr;
+
+import com.bookStore.config.ConfigReader;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Starts a flight recording for a test or benchmark run when jfr.record=true
+ * (config.properties or -Djfr.record=true). The file is written when the run stops.
+ */
+public class JfrRecorder {
+
+    private static Recording recording;
+    private static Path destination;
+    private static int started;
+
+    public static synchronized void startIfEnabled(String runName) {
+        if (recording != null || !Boolean.parseBoolean(ConfigReader.getProperty("jfr.record", "false"))) {
+            return;
+        }
+        String settings = ConfigReader.getProperty("jfr.settings", "profile");
+        String dir = ConfigReader.getProperty("jfr.dir", "target" + File.separator + "jfr");
+        // mvn verify runs several Cucumber runners in one JVM, often within the same second
+        String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS")) + "-" + (++started);
+        try {
+            Files.createDirectories(Paths.get(dir));
+            destination = Paths.get(dir, runName + "-" + stamp + ".jfr");
+            recording = new Recording(Configuration.getConfiguration(settings));
+            recording.setName(runName);
+            recording.setDestination(destination);
+            recording.start();
+        } catch (IOException | ParseException e) {
+            throw new RuntimeException("Failed to start JFR recording with settings '" + settings + "'", e);
+        }
+        System.out.println("🎥 JFR recording started: " + destination.toAbsolutePath());
+    }
+
+    public static synchronized void stop() {
+        if (recording == null) {
+            return;
+        }
+        recording.stop();
+        recording.close();
+        recording = null;
+        System.out.println("🎥 JFR recording written to " + destination.toAbsolutePath());
+    }
+}
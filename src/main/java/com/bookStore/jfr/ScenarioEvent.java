@@ -0,0 +1,25 @@
+package com.bookStore.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.bookstore.Scenario")
+@Label("Cucumber Scenario")
+@Category({"Bookstore", "Cucumber"})
+@StackTrace(false)
+public class ScenarioEvent extends jdk.jfr.Event {
+
+    @Label("Scenario")
+    public String scenario;
+
+    @Label("URI")
+    public String uri;
+
+    @Label("Line")
+    public int line;
+
+    @Label("Status")
+    public String status;
+}
@@ -0,0 +1,22 @@
+package com.bookStore.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.bookstore.Step")
+@Label("Cucumber Step")
+@Category({"Bookstore", "Cucumber"})
+@StackTrace(false)
+public class StepEvent extends jdk.jfr.Event {
+
+    @Label("Scenario")
+    public String scenario;
+
+    @Label("Step")
+    public String step;
+
+    @Label("Status")
+    public String status;
+}
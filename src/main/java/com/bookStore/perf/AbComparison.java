@@ -0,0 +1,259 @@
+package com.bookStore.perf;
+
+import com.bookStore.base.Book;
+import com.bookStore.base.User;
+import com.bookStore.service.BookService;
+import com.bookStore.service.SignInService;
+import com.bookStore.service.SignUpService;
+import com.bookStore.utils.BaseUriContext;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs the same workload against two backend builds (A = baseline, B = candidate).
+ * Blocks alternate between A and B in random order so host noise hits both sides
+ * equally; warm-up blocks are discarded until throughput settles. Per endpoint the
+ * block means are compared with a bootstrap confidence interval and a permutation test.
+ * Exits 1 when B is a significant regression beyond the threshold, so it can gate CI.
+ *
+ * Run with: mvn compile exec:java -Dexec.mainClass=com.bookStore.perf.AbComparison
+ *           -Dperf.ab.a.uri=http://127.0.0.1:8000 -Dperf.ab.b.uri=http://127.0.0.1:8001
+ */
+public class AbComparison {
+
+    private final String uriA = PerfConfig.getString("perf.ab.a.uri", null);
+    private final String uriB = PerfConfig.getString("perf.ab.b.uri", null);
+    private final List<String> endpoints = PerfConfig.getList("perf.ab.endpoints", "list,get,update,login");
+    private final int concurrency = PerfConfig.getInt("perf.ab.concurrency", 4);
+    private final long blockMillis = PerfConfig.getLong("perf.ab.block.seconds", 6) * 1000;
+    private final int blocks = PerfConfig.getInt("perf.ab.blocks", 10);
+    private final int warmupMaxBlocks = PerfConfig.getInt("perf.ab.warmup.max.blocks", 10);
+    private final int steadyWindow = Math.max(2, PerfConfig.getInt("perf.ab.steady.window", 3));
+    private final double steadyCv = PerfConfig.getDouble("perf.ab.steady.cv", 0.10);
+    private final double confidence = PerfConfig.getDouble("perf.ab.confidence", 0.95);
+    private final double alpha = PerfConfig.getDouble("perf.ab.alpha", 0.05);
+    private final double thresholdPct = PerfConfig.getDouble("perf.ab.threshold.pct", 5);
+    private final int resamples = PerfConfig.getInt("perf.ab.resamples", 10000);
+    private final int seedBooks = PerfConfig.getInt("perf.ab.seed.books", 100);
+    private final int idBase = PerfConfig.getInt("perf.ab.id.base", 3000000);
+    private final long seed = PerfConfig.getLong("perf.ab.seed", System.nanoTime());
+
+    private final Random random = new Random(seed);
+
+    public static void main(String[] args) {
+        boolean regression = new AbComparison().run();
+        System.exit(regression ? 1 : 0);
+    }
+
+    // Returns true when B regressed significantly on any endpoint
+    public boolean run() {
+        if (uriA == null || uriB == null) {
+            throw new RuntimeException("perf.ab.a.uri and perf.ab.b.uri must both be set");
+        }
+        Side a = new Side("A", uriA);
+        Side b = new Side("B", uriB);
+        a.prepare();
+        b.prepare();
+
+        int warmupBlocks = 0;
+        boolean steady = false;
+        System.out.println("Warming up until block throughput varies by less than " + (steadyCv * 100) + "% on both sides");
+        while (warmupBlocks < warmupMaxBlocks && !steady) {
+            for (Side side : shuffled(a, b)) {
+                side.warmupThroughput.add(side.runBlock(false));
+            }
+            warmupBlocks++;
+            steady = Resampling.trailingCv(a.warmupThroughput, steadyWindow) <= steadyCv
+                    && Resampling.trailingCv(b.warmupThroughput, steadyWindow) <= steadyCv;
+        }
+        System.out.println(steady
+                ? "Steady state after " + warmupBlocks + " warm-up rounds"
+                : "No steady state after " + warmupBlocks + " warm-up rounds, measuring anyway");
+
+        for (int round = 0; round < blocks; round++) {
+            for (Side side : shuffled(a, b)) {
+                side.runBlock(true);
+            }
+            System.out.println("Measured round " + (round + 1) + "/" + blocks);
+        }
+
+        boolean regression = false;
+        List<Map<String, Object>> results = new ArrayList<>();
+        System.out.printf("%n%-8s %-11s %12s %12s %9s %20s %9s %s%n",
+                "endpoint", "metric", "A", "B", "change", "CI", "p", "verdict");
+        for (String endpoint : endpoints) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("endpoint", endpoint);
+            Map<String, Object> latency = compare(endpoint, "meanLatencyMs", a.latency.get(endpoint), b.latency.get(endpoint), true);
+            Map<String, Object> throughput = compare(endpoint, "throughput", a.throughput.get(endpoint), b.throughput.get(endpoint), false);
+            result.put("latency", latency);
+            result.put("throughput", throughput);
+            result.put("pooledA", a.pooled.get(endpoint).toMap(blocks * blockMillis / 1000.0 / endpoints.size()));
+            result.put("pooledB", b.pooled.get(endpoint).toMap(blocks * blockMillis / 1000.0 / endpoints.size()));
+            regression |= "regression".equals(latency.get("verdict")) || "regression".equals(throughput.get("verdict"));
+            results.add(result);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("benchmark", "ab-comparison");
+        report.put("a", uriA);
+        report.put("b", uriB);
+        report.put("seed", seed);
+        report.put("concurrency", concurrency);
+        report.put("blockSeconds", blockMillis / 1000);
+        report.put("blocksPerSide", blocks);
+        report.put("warmupRounds", warmupBlocks);
+        report.put("steadyStateReached", steady);
+        report.put("confidence", confidence);
+        report.put("alpha", alpha);
+        report.put("thresholdPct", thresholdPct);
+        report.put("endpoints", results);
+        report.put("regression", regression);
+        PerfReport.write("ab-comparison", report);
+        System.out.println(regression ? "❌ B is a significant regression over A" : "✅ No significant regression in B");
+        return regression;
+    }
+
+    private Map<String, Object> compare(String endpoint, String metric, List<Double> samplesA, List<Double> samplesB, boolean lowerIsBetter) {
+        double[] valuesA = toArray(samplesA);
+        double[] valuesB = toArray(samplesB);
+        double change = Resampling.relativeChange(valuesA, valuesB);
+        double[] interval = Resampling.bootstrapRelativeChange(valuesA, valuesB, resamples, confidence, random);
+        double p = Resampling.permutationPValue(valuesA, valuesB, resamples, random);
+
+        String verdict = "no significant change";
+        boolean significant = p < alpha && (interval[0] > 0 || interval[1] < 0) && Math.abs(change) * 100 >= thresholdPct;
+        if (significant) {
+            boolean worse = lowerIsBetter ? change > 0 : change < 0;
+            verdict = worse ? "regression" : "improvement";
+        }
+
+        System.out.printf("%-8s %-11s %12.2f %12.2f %8.1f%% [%7.1f%%, %7.1f%%] %9.4f %s%n", endpoint,
+                lowerIsBetter ? "latency ms" : "req/s", Resampling.mean(valuesA), Resampling.mean(valuesB),
+                change * 100, interval[0] * 100, interval[1] * 100, p, verdict);
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("metric", metric);
+        map.put("meanA", Resampling.mean(valuesA));
+        map.put("meanB", Resampling.mean(valuesB));
+        map.put("changePct", change * 100);
+        map.put("ciLowPct", interval[0] * 100);
+        map.put("ciHighPct", interval[1] * 100);
+        map.put("pValue", p);
+        map.put("verdict", verdict);
+        return map;
+    }
+
+    private List<Side> shuffled(Side a, Side b) {
+        List<Side> order = new ArrayList<>(Arrays.asList(a, b));
+        Collections.shuffle(order, random);
+        return order;
+    }
+
+    private static double[] toArray(List<Double> values) {
+        double[] array = new double[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+
+    private class Side {
+        private final String name;
+        private final String uri;
+        private final List<Double> warmupThroughput = new ArrayList<>();
+        private final Map<String, List<Double>> latency = new LinkedHashMap<>();
+        private final Map<String, List<Double>> throughput = new LinkedHashMap<>();
+        private final Map<String, OperationStats> pooled = new LinkedHashMap<>();
+        private final AtomicInteger createOffset = new AtomicInteger(seedBooks);
+        private String token;
+        private User loginUser;
+
+        Side(String name, String uri) {
+            this.name = name;
+            this.uri = uri;
+            for (String endpoint : endpoints) {
+                latency.put(endpoint, new ArrayList<>());
+                throughput.put(endpoint, new ArrayList<>());
+                pooled.put(endpoint, new OperationStats(endpoint));
+            }
+        }
+
+        void prepare() {
+            BaseUriContext.with(uri, () -> {
+                token = BenchmarkUser.signUpAndLogin("ab_" + name);
+                loginUser = BenchmarkUser.newUser("ab_login_" + name);
+                Response signUp = SignUpService.signUp(loginUser);
+                if (signUp.getStatusCode() != 200) {
+                    throw new IllegalStateException("Side " + name + " signup failed: " + signUp.asString());
+                }
+                for (int i = 0; i < seedBooks; i++) {
+                    BookService.deleteBook(idBase + i, token);
+                    Response created = BookService.createBook(book(idBase + i), token);
+                    if (created.getStatusCode() != 200) {
+                        throw new IllegalStateException("Side " + name + " seeding failed: " + created.asString());
+                    }
+                }
+                return null;
+            });
+            System.out.println("Side " + name + " ready at " + uri);
+        }
+
+        // One block = every endpoint for an equal slice of the block, in random order; returns total req/s
+        double runBlock(boolean record) {
+            long sliceMillis = blockMillis / endpoints.size();
+            List<String> order = new ArrayList<>(endpoints);
+            Collections.shuffle(order, random);
+            long total = 0;
+            for (String endpoint : order) {
+                Supplier<Response> call = request(endpoint);
+                OperationStats stats = ClosedLoopLoad.run(endpoint, concurrency, 0, sliceMillis,
+                        () -> BaseUriContext.with(uri, call));
+                total += stats.getTotal();
+                if (record) {
+                    latency.get(endpoint).add(stats.getLatency().meanMillis());
+                    throughput.get(endpoint).add(stats.getSuccess() / (sliceMillis / 1000.0));
+                    pooled.get(endpoint).merge(stats);
+                }
+            }
+            return total / (blockMillis / 1000.0);
+        }
+
+        private Supplier<Response> request(String endpoint) {
+            switch (endpoint) {
+                case "list":
+                    return () -> BookService.getAllBooks(token);
+                case "get":
+                    return () -> BookService.getBookById(idBase + ThreadLocalRandom.current().nextInt(seedBooks), token);
+                case "update":
+                    return () -> {
+                        int id = idBase + ThreadLocalRandom.current().nextInt(seedBooks);
+                        return BookService.updateBook(id, book(id), token);
+                    };
+                case "create":
+                    // Grows the table on each side at its own pace, which skews "list" if both are enabled
+                    return () -> BookService.createBook(book(idBase + createOffset.getAndIncrement()), token);
+                case "login":
+                    return () -> SignInService.login(loginUser);
+                default:
+                    throw new RuntimeException("Unknown perf.ab.endpoints entry: " + endpoint + " (expected list, get, update, create or login)");
+            }
+        }
+    }
+
+    private static Book book(int id) {
+        Book book = new Book("AbBook" + id, "perf", 2024, "A/B comparison book " + id);
+        book.setId(id);
+        return book;
+    }
+}
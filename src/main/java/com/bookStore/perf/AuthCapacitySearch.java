@@ -0,0 +1,181 @@
+package com.bookStore.perf;
+
+import com.bookStore.base.User;
+import com.bookStore.service.SignInService;
+import com.bookStore.service.SignUpService;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Finds the highest sustainable throughput of /login and /signup. Concurrency is
+ * doubled until the p99 or error-rate SLO breaks (or throughput stops growing),
+ * then the gap between the last passing and first failing level is bisected.
+ * The knee is the passing level with the best throughput.
+ *
+ * Run with: mvn compile exec:java -Dexec.mainClass=com.bookStore.perf.AuthCapacitySearch
+ */
+public class AuthCapacitySearch {
+
+    private final List<String> endpoints = PerfConfig.getList("perf.capacity.endpoints", "login,signup");
+    private final int startConcurrency = PerfConfig.getInt("perf.capacity.start.concurrency", 1);
+    private final int maxConcurrency = PerfConfig.getInt("perf.capacity.max.concurrency", 64);
+    private final long warmupMillis = PerfConfig.getLong("perf.capacity.warmup.seconds", 2) * 1000;
+    private final long stepMillis = PerfConfig.getLong("perf.capacity.step.seconds", 10) * 1000;
+    private final double sloP99Millis = PerfConfig.getDouble("perf.capacity.slo.p99.ms", 500);
+    private final double sloErrorRate = PerfConfig.getDouble("perf.capacity.slo.error.rate", 0.01);
+    private final double minGain = PerfConfig.getDouble("perf.capacity.min.gain", 0.05);
+    private final boolean refine = PerfConfig.getBoolean("perf.capacity.refine", true);
+    private final int loginUsers = PerfConfig.getInt("perf.capacity.login.users", 20);
+
+    private final List<User> loginPool = new ArrayList<>();
+
+    public static void main(String[] args) {
+        BenchmarkServer.run(() -> new AuthCapacitySearch().run());
+    }
+
+    public void run() {
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (String endpoint : endpoints) {
+            results.add(search(endpoint, requestFor(endpoint)));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("benchmark", "auth-capacity");
+        Map<String, Object> slo = new LinkedHashMap<>();
+        slo.put("p99Ms", sloP99Millis);
+        slo.put("errorRate", sloErrorRate);
+        report.put("slo", slo);
+        report.put("stepSeconds", stepMillis / 1000);
+        report.put("endpoints", results);
+        PerfReport.write("auth-capacity", report);
+    }
+
+    private Supplier<Response> requestFor(String endpoint) {
+        switch (endpoint) {
+            case "signup":
+                return () -> SignUpService.signUp(BenchmarkUser.newUser("capacity"));
+            case "login":
+                prepareLoginPool();
+                return () -> SignInService.login(loginPool.get(ThreadLocalRandom.current().nextInt(loginPool.size())));
+            default:
+                throw new RuntimeException("Unknown perf.capacity.endpoints entry: " + endpoint + " (expected login or signup)");
+        }
+    }
+
+    private void prepareLoginPool() {
+        while (loginPool.size() < loginUsers) {
+            User user = BenchmarkUser.newUser("capacity_login");
+            Response response = SignUpService.signUp(user);
+            if (response.getStatusCode() != 200) {
+                throw new IllegalStateException("Could not create login user: " + response.getStatusCode() + " " + response.asString());
+            }
+            loginPool.add(user);
+        }
+    }
+
+    private Map<String, Object> search(String endpoint, Supplier<Response> request) {
+        System.out.println("Capacity search for /" + endpoint + " (SLO p99 <= " + sloP99Millis + " ms, errors <= " + (sloErrorRate * 100) + "%)");
+        System.out.printf("%-12s %10s %10s %10s %8s %6s%n", "concurrency", "req/s", "p50(ms)", "p99(ms)", "err%", "SLO");
+
+        Map<Integer, OperationStats> probes = new TreeMap<>();
+        int lastPass = -1;
+        int firstFail = -1;
+        double bestThroughput = 0;
+        boolean saturated = false;
+
+        for (int concurrency = startConcurrency; concurrency <= maxConcurrency; concurrency *= 2) {
+            OperationStats stats = probe(endpoint, concurrency, request, probes);
+            if (!meetsSlo(stats)) {
+                firstFail = concurrency;
+                break;
+            }
+            lastPass = concurrency;
+            double throughput = throughput(stats);
+            if (bestThroughput > 0 && throughput < bestThroughput * (1 + minGain)) {
+                // More workers only queue behind bcrypt; no point doubling further
+                saturated = true;
+                break;
+            }
+            bestThroughput = Math.max(bestThroughput, throughput);
+        }
+
+        if (refine && lastPass > 0 && firstFail > 0) {
+            int low = lastPass;
+            int high = firstFail;
+            while (high - low > 1) {
+                int mid = (low + high) / 2;
+                if (meetsSlo(probe(endpoint, mid, request, probes))) {
+                    low = mid;
+                } else {
+                    high = mid;
+                }
+            }
+        }
+
+        int kneeConcurrency = -1;
+        OperationStats knee = null;
+        List<Map<String, Object>> steps = new ArrayList<>();
+        for (Map.Entry<Integer, OperationStats> entry : probes.entrySet()) {
+            OperationStats stats = entry.getValue();
+            Map<String, Object> step = stats.toMap(stepMillis / 1000.0);
+            step.put("concurrency", entry.getKey());
+            step.put("errorRate", errorRate(stats));
+            step.put("meetsSlo", meetsSlo(stats));
+            steps.add(step);
+            if (meetsSlo(stats) && (knee == null || throughput(stats) > throughput(knee))) {
+                knee = stats;
+                kneeConcurrency = entry.getKey();
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("endpoint", "/" + endpoint);
+        result.put("saturated", saturated);
+        if (knee != null) {
+            Map<String, Object> kneeMap = new LinkedHashMap<>();
+            kneeMap.put("concurrency", kneeConcurrency);
+            kneeMap.put("maxSustainableThroughputPerSec", throughput(knee));
+            kneeMap.put("p99Ms", knee.getLatency().percentileMillis(99));
+            kneeMap.put("errorRate", errorRate(knee));
+            result.put("knee", kneeMap);
+            System.out.printf("Knee for /%s: %.1f req/s at concurrency %d (p99 %.1f ms)%n%n",
+                    endpoint, throughput(knee), kneeConcurrency, knee.getLatency().percentileMillis(99));
+        } else {
+            result.put("knee", null);
+            System.out.println("No concurrency level met the SLO for /" + endpoint + System.lineSeparator());
+        }
+        result.put("steps", steps);
+        return result;
+    }
+
+    private OperationStats probe(String endpoint, int concurrency, Supplier<Response> request, Map<Integer, OperationStats> probes) {
+        OperationStats stats = ClosedLoopLoad.run(endpoint, concurrency, warmupMillis, stepMillis, request);
+        probes.put(concurrency, stats);
+        System.out.printf("%-12d %10.1f %10.2f %10.2f %7.2f%% %6s%n", concurrency, throughput(stats),
+                stats.getLatency().percentileMillis(50), stats.getLatency().percentileMillis(99),
+                errorRate(stats) * 100, meetsSlo(stats) ? "ok" : "FAIL");
+        return stats;
+    }
+
+    private boolean meetsSlo(OperationStats stats) {
+        return stats.getTotal() > 0
+                && stats.getLatency().percentileMillis(99) <= sloP99Millis
+                && errorRate(stats) <= sloErrorRate;
+    }
+
+    // Any non-2xx counts: a 400 from /signup or /login under load is still a failed request
+    private static double errorRate(OperationStats stats) {
+        return 1 - stats.rate(stats.getSuccess());
+    }
+
+    private double throughput(OperationStats stats) {
+        return stats.getSuccess() / (stepMillis / 1000.0);
+    }
+}
@@ -0,0 +1,29 @@
+package com.bookStore.perf;
+
+import com.bookStore.jfr.JfrRecorder;
+import com.bookStore.utils.ServerManager;
+
+public class BenchmarkServer {
+
+    // Reuses a backend that is already up (CI, manual uvicorn) and only owns the process it started itself
+    public static void run(Runnable benchmark) {
+        boolean started = false;
+        if (!ServerManager.isServerRunning()) {
+            ServerManager.startServer();
+            started = true;
+        } else {
+            ServerManager.startProxyFromConfig();
+        }
+        JfrRecorder.startIfEnabled("benchmark");
+        try {
+            benchmark.run();
+        } finally {
+            JfrRecorder.stop();
+            if (started) {
+                ServerManager.stopServer();
+            } else {
+                ServerManager.stopProxy();
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.bookStore.perf;
+
+import com.bookStore.base.User;
+import com.bookStore.service.SignInService;
+import com.bookStore.service.SignUpService;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class BenchmarkUser {
+
+    public static User newUser(String prefix) {
+        int id = ThreadLocalRandom.current().nextInt(1_000_000, Integer.MAX_VALUE);
+        String email = prefix + "_" + UUID.randomUUID().toString().substring(0, 8) + "@mail.com";
+        return new User(id, email, "Perf@" + id);
+    }
+
+    // Signs up a throwaway user and returns its bearer token for the /books endpoints
+    public static String signUpAndLogin(String prefix) {
+        User user = newUser(prefix);
+        Response signUpResp = SignUpService.signUp(user);
+        if (signUpResp.getStatusCode() != 200) {
+            throw new IllegalStateException("Benchmark signup failed: " + signUpResp.getStatusCode() + " " + signUpResp.asString());
+        }
+        Response loginResp = SignInService.login(user);
+        if (loginResp.getStatusCode() != 200) {
+            throw new IllegalStateException("Benchmark login failed: " + loginResp.getStatusCode() + " " + loginResp.asString());
+        }
+        return JsonPath.from(loginResp.asString()).getString("access_token");
+    }
+}
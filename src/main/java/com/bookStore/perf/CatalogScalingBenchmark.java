@@ -0,0 +1,267 @@
+package com.bookStore.perf;
+
+import com.bookStore.base.Book;
+import com.bookStore.service.BookService;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Grows the book table in steps through BookService and, at each catalog size,
+ * measures list / get-by-id / create latency plus the GET /books/ payload size.
+ * A power-law fit across the steps shows how each endpoint scales and at which
+ * catalog size the unpaginated list blows its latency or payload budget. Every book
+ * it created is deleted again at the end, so reruns start from the same catalog.
+ *
+ * Run with: mvn compile exec:java -Dexec.mainClass=com.bookStore.perf.CatalogScalingBenchmark
+ */
+public class CatalogScalingBenchmark {
+
+    private final List<Integer> steps = PerfConfig.getIntList("perf.scaling.steps", "1000,10000,100000");
+    private final int loadThreads = PerfConfig.getInt("perf.scaling.load.threads", 8);
+    private final int idBase = PerfConfig.getInt("perf.scaling.id.base", 2000000);
+    private final int listSamples = PerfConfig.getInt("perf.scaling.list.samples", 10);
+    private final int getSamples = PerfConfig.getInt("perf.scaling.get.samples", 100);
+    private final int createSamples = PerfConfig.getInt("perf.scaling.create.samples", 100);
+    private final double listBudgetMillis = PerfConfig.getDouble("perf.scaling.list.budget.ms", 1000);
+    private final double listBudgetBytes = PerfConfig.getDouble("perf.scaling.list.budget.bytes", 1048576);
+
+    private final AtomicInteger loaded = new AtomicInteger();
+    private String token;
+    private int baseline;
+    private int idStart;
+
+    public static void main(String[] args) {
+        BenchmarkServer.run(() -> new CatalogScalingBenchmark().run());
+    }
+
+    public void run() {
+        token = BenchmarkUser.signUpAndLogin("scaling");
+        List<Integer> existingIds = listIds();
+        baseline = existingIds.size();
+        // Start above every existing ID so filler books never collide with earlier data
+        idStart = idBase;
+        for (int id : existingIds) {
+            idStart = Math.max(idStart, id + 1);
+        }
+        System.out.println("Catalog starts with " + baseline + " books, filler IDs from " + idStart);
+
+        List<Map<String, Object>> points = new ArrayList<>();
+        try {
+            System.out.printf("%-10s %-8s %10s %10s %10s %14s%n", "books", "op", "p50(ms)", "p95(ms)", "p99(ms)", "avgBytes");
+            for (int target : steps) {
+                if (target < catalogSize()) {
+                    System.out.println("Skipping step " + target + ": catalog already holds " + catalogSize() + " books");
+                    continue;
+                }
+                growTo(target);
+                points.add(measure());
+            }
+        } finally {
+            removeCreated();
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("benchmark", "catalog-scaling");
+        report.put("baselineBooks", baseline);
+        report.put("points", points);
+        if (points.size() >= 2) {
+            report.put("fits", fit(points));
+        } else {
+            System.out.println("Need at least two catalog sizes to fit a growth curve");
+        }
+        PerfReport.write("catalog-scaling", report);
+    }
+
+    private int catalogSize() {
+        return baseline + loaded.get();
+    }
+
+    private List<Integer> listIds() {
+        Response response = BookService.getAllBooks(token);
+        if (response.getStatusCode() != 200) {
+            throw new IllegalStateException("Could not list books: " + response.getStatusCode() + " " + response.asString());
+        }
+        return JsonPath.from(response.asString()).getList("id", Integer.class);
+    }
+
+    private void growTo(int target) {
+        int missing = target - catalogSize();
+        if (missing <= 0) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        AtomicInteger remaining = new AtomicInteger(missing);
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(loadThreads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < loadThreads; t++) {
+            futures.add(pool.submit(() -> {
+                while (remaining.getAndDecrement() > 0) {
+                    if (createNext().getStatusCode() != 200) {
+                        failures.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Catalog load failed", e);
+        } finally {
+            pool.shutdownNow();
+        }
+        if (failures.get() > 0) {
+            throw new IllegalStateException(failures.get() + " book creates failed while growing the catalog to " + target);
+        }
+        System.out.println("Catalog grown to " + catalogSize() + " books in " + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    private Response createNext() {
+        int offset = loaded.getAndIncrement();
+        Book book = new Book("ScaleBook" + offset, "perf", 2024, "Catalog scaling filler " + offset);
+        book.setId(idStart + offset);
+        return BookService.createBook(book, token);
+    }
+
+    // Deletes every ID this run tried to create; a 404 just means that create had failed
+    private void removeCreated() {
+        int created = loaded.get();
+        if (created == 0) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(loadThreads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < loadThreads; t++) {
+            futures.add(pool.submit(() -> {
+                int offset;
+                while ((offset = next.getAndIncrement()) < created) {
+                    try {
+                        int status = BookService.deleteBook(idStart + offset, token).getStatusCode();
+                        if (status != 200 && status != 404) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (Exception e) {
+            System.out.println("Catalog cleanup interrupted: " + e.getMessage());
+        } finally {
+            pool.shutdownNow();
+        }
+        System.out.println("Removed " + (created - failures.get()) + " of " + created + " filler books in "
+                + (System.currentTimeMillis() - start) + " ms" + (failures.get() > 0 ? " (IDs from " + idStart + " left behind)" : ""));
+    }
+
+    private Map<String, Object> measure() {
+        int size = catalogSize();
+        OperationStats list = new OperationStats("list");
+        OperationStats get = new OperationStats("get");
+        OperationStats create = new OperationStats("create");
+        long listBytes = 0;
+        long getBytes = 0;
+        long createBytes = 0;
+
+        // One unmeasured call so the first sample doesn't pay for a cold SQLite page cache
+        BookService.getAllBooks(token);
+        for (int i = 0; i < listSamples; i++) {
+            long begin = System.nanoTime();
+            Response response = BookService.getAllBooks(token);
+            list.record(response.getStatusCode(), System.nanoTime() - begin);
+            listBytes += response.asByteArray().length;
+        }
+        // Only books this run created have known IDs
+        for (int i = 0; i < getSamples && loaded.get() > 0; i++) {
+            int id = idStart + ThreadLocalRandom.current().nextInt(loaded.get());
+            long begin = System.nanoTime();
+            Response response = BookService.getBookById(id, token);
+            get.record(response.getStatusCode(), System.nanoTime() - begin);
+            getBytes += response.asByteArray().length;
+        }
+        for (int i = 0; i < createSamples; i++) {
+            long begin = System.nanoTime();
+            Response response = createNext();
+            create.record(response.getStatusCode(), System.nanoTime() - begin);
+            createBytes += response.asByteArray().length;
+        }
+
+        Map<String, Object> point = new LinkedHashMap<>();
+        point.put("books", size);
+        point.put("list", withBytes(size, list, listBytes));
+        point.put("get", withBytes(size, get, getBytes));
+        point.put("create", withBytes(size, create, createBytes));
+        return point;
+    }
+
+    private Map<String, Object> withBytes(int size, OperationStats stats, long totalBytes) {
+        double avgBytes = stats.getTotal() == 0 ? 0 : (double) totalBytes / stats.getTotal();
+        System.out.printf("%-10d %-8s %10.2f %10.2f %10.2f %14.0f%n", size, stats.getName(),
+                stats.getLatency().percentileMillis(50), stats.getLatency().percentileMillis(95),
+                stats.getLatency().percentileMillis(99), avgBytes);
+        Map<String, Object> map = stats.toMap(0);
+        map.remove("throughputPerSec");
+        map.put("avgResponseBytes", avgBytes);
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> fit(List<Map<String, Object>> points) {
+        double[] sizes = new double[points.size()];
+        for (int i = 0; i < points.size(); i++) {
+            sizes[i] = ((Number) points.get(i).get("books")).doubleValue();
+        }
+
+        Map<String, Object> fits = new LinkedHashMap<>();
+        System.out.println();
+        for (String op : new String[] {"list", "get", "create"}) {
+            double[] p95 = new double[points.size()];
+            for (int i = 0; i < points.size(); i++) {
+                p95[i] = ((Number) ((Map<String, Object>) points.get(i).get(op)).get("p95Ms")).doubleValue();
+            }
+            GrowthFit latencyFit = GrowthFit.powerLaw(sizes, p95);
+            fits.put(op + "P95Ms", latencyFit.toMap());
+            System.out.printf("%-6s p95 latency grows as n^%.2f (%s)%n", op, latencyFit.getExponent(), latencyFit.describe());
+
+            if ("list".equals(op)) {
+                double[] bytes = new double[points.size()];
+                for (int i = 0; i < points.size(); i++) {
+                    bytes[i] = ((Number) ((Map<String, Object>) points.get(i).get(op)).get("avgResponseBytes")).doubleValue();
+                }
+                GrowthFit bytesFit = GrowthFit.powerLaw(sizes, bytes);
+                fits.put("listBytes", bytesFit.toMap());
+                System.out.printf("list   payload grows as n^%.2f (%s)%n", bytesFit.getExponent(), bytesFit.describe());
+
+                Map<String, Object> pagination = new LinkedHashMap<>();
+                pagination.put("latencyBudgetMs", listBudgetMillis);
+                pagination.put("booksAtLatencyBudget", Math.round(latencyFit.solveFor(listBudgetMillis)));
+                pagination.put("payloadBudgetBytes", listBudgetBytes);
+                pagination.put("booksAtPayloadBudget", Math.round(bytesFit.solveFor(listBudgetBytes)));
+                fits.put("listPagination", pagination);
+                System.out.println("GET /books/ crosses " + listBudgetMillis + " ms p95 at ~" + pagination.get("booksAtLatencyBudget")
+                        + " books and " + (long) listBudgetBytes + " bytes at ~" + pagination.get("booksAtPayloadBudget") + " books");
+            }
+        }
+        return fits;
+    }
+}
@@ -0,0 +1,61 @@
+package com.bookStore.perf;
+
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Fixed number of workers calling the same request back to back. Calls that start
+ * before the warm-up ends are executed but not recorded.
+ */
+public class ClosedLoopLoad {
+
+    public static OperationStats run(String name, int workers, long warmupMillis, long durationMillis, Supplier<Response> call) {
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<OperationStats>> futures = new ArrayList<>();
+        long recordFrom = System.currentTimeMillis() + warmupMillis;
+        long deadline = recordFrom + durationMillis;
+
+        for (int w = 0; w < workers; w++) {
+            futures.add(pool.submit(() -> {
+                startGate.await();
+                OperationStats stats = new OperationStats(name);
+                long now;
+                while ((now = System.currentTimeMillis()) < deadline) {
+                    long begin = System.nanoTime();
+                    try {
+                        int status = call.get().getStatusCode();
+                        if (now >= recordFrom) {
+                            stats.record(status, System.nanoTime() - begin);
+                        }
+                    } catch (Exception e) {
+                        if (now >= recordFrom) {
+                            stats.recordFailure(System.nanoTime() - begin);
+                        }
+                    }
+                }
+                return stats;
+            }));
+        }
+        startGate.countDown();
+
+        OperationStats merged = new OperationStats(name);
+        try {
+            for (Future<OperationStats> future : futures) {
+                merged.merge(future.get());
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Load worker for " + name + " failed", e);
+        } finally {
+            pool.shutdownNow();
+        }
+        return merged;
+    }
+}
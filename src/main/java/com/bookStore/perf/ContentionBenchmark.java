@@ -0,0 +1,257 @@
+package com.bookStore.perf;
+
+import com.bookStore.base.Book;
+import com.bookStore.service.BookService;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrent get/update/delete/create against a shared hot set of book IDs.
+ * Each (hot set size, worker count) cell reseeds the hot set, runs for a fixed
+ * time and reports throughput, latency percentiles and 404 / 5xx rates per operation.
+ * A worker only creates an ID it last saw missing, so a 5xx on create means another
+ * worker re-created it in between rather than that the hot set was simply full.
+ *
+ * Run with: mvn compile exec:java -Dexec.mainClass=com.bookStore.perf.ContentionBenchmark
+ */
+public class ContentionBenchmark {
+
+    private static final String[] OPERATIONS = {"get", "update", "delete", "create"};
+
+    private final List<Integer> hotSetSizes = PerfConfig.getIntList("perf.contention.hotset", "100,10,1");
+    private final List<Integer> workerCounts = PerfConfig.getIntList("perf.contention.workers", "1,4,16,32");
+    private final double skew = PerfConfig.getDouble("perf.contention.zipf.skew", 1.0);
+    private final int idBase = PerfConfig.getInt("perf.contention.id.base", 900000);
+    private final long warmupMillis = PerfConfig.getLong("perf.contention.warmup.seconds", 2) * 1000;
+    private final long durationMillis = PerfConfig.getLong("perf.contention.duration.seconds", 10) * 1000;
+    private final String mixSpec = PerfConfig.getString("perf.contention.mix", "get:60,update:25,delete:10,create:5");
+    private final int[] mix = parseMix(mixSpec);
+
+    private String token;
+    private int seeded;
+
+    public static void main(String[] args) {
+        BenchmarkServer.run(() -> new ContentionBenchmark().run());
+    }
+
+    public void run() {
+        token = BenchmarkUser.signUpAndLogin("contention");
+        List<Map<String, Object>> cells = new ArrayList<>();
+
+        System.out.printf("%-8s %-8s %-8s %10s %10s %10s %10s %8s %8s%n",
+                "hotSet", "workers", "op", "ops/s", "p50(ms)", "p95(ms)", "p99(ms)", "404%", "5xx%");
+        try {
+            for (int hotSet : hotSetSizes) {
+                for (int workers : workerCounts) {
+                    cells.add(runCell(hotSet, workers));
+                }
+            }
+        } finally {
+            removeHotSet();
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("benchmark", "contention");
+        report.put("zipfSkew", skew);
+        report.put("warmupSeconds", warmupMillis / 1000);
+        report.put("durationSeconds", durationMillis / 1000);
+        report.put("mix", mixSpec);
+        report.put("cells", cells);
+        PerfReport.write("contention", report);
+    }
+
+    private Map<String, Object> runCell(int hotSet, int workers) {
+        seedHotSet(hotSet);
+        ZipfSampler sampler = new ZipfSampler(hotSet, skew);
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<Map<String, OperationStats>>> futures = new ArrayList<>();
+        AtomicLong createsSkipped = new AtomicLong();
+
+        long start = System.currentTimeMillis();
+        long recordFrom = start + warmupMillis;
+        long deadline = recordFrom + durationMillis;
+        for (int w = 0; w < workers; w++) {
+            final int worker = w;
+            futures.add(pool.submit(() -> {
+                startGate.await();
+                return work(worker, sampler, recordFrom, deadline, createsSkipped);
+            }));
+        }
+        startGate.countDown();
+
+        Map<String, OperationStats> merged = newStatsMap();
+        try {
+            for (Future<Map<String, OperationStats>> future : futures) {
+                for (OperationStats stats : future.get().values()) {
+                    merged.get(stats.getName()).merge(stats);
+                }
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Contention worker failed", e);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        double elapsedSeconds = durationMillis / 1000.0;
+        long totalOps = 0;
+        List<Map<String, Object>> operations = new ArrayList<>();
+        for (OperationStats stats : merged.values()) {
+            totalOps += stats.getTotal();
+            operations.add(stats.toMap(elapsedSeconds));
+            System.out.printf("%-8d %-8d %-8s %10.1f %10.2f %10.2f %10.2f %7.2f%% %7.2f%%%n",
+                    hotSet, workers, stats.getName(), stats.getTotal() / elapsedSeconds,
+                    stats.getLatency().percentileMillis(50), stats.getLatency().percentileMillis(95),
+                    stats.getLatency().percentileMillis(99),
+                    stats.rate(stats.getNotFound()) * 100, stats.rate(stats.getServerError()) * 100);
+        }
+
+        Map<String, Object> cell = new LinkedHashMap<>();
+        cell.put("hotSet", hotSet);
+        cell.put("workers", workers);
+        cell.put("totalOps", totalOps);
+        cell.put("throughputPerSec", totalOps / elapsedSeconds);
+        cell.put("operations", operations);
+        // Creates not sent because the worker had no reason to think the ID was gone
+        cell.put("createsSkippedPresent", createsSkipped.get());
+        System.out.printf("%-8d %-8d creates skipped (ID not seen missing): %d%n", hotSet, workers, createsSkipped.get());
+        return cell;
+    }
+
+    private Map<String, OperationStats> work(int worker, ZipfSampler sampler, long recordFrom, long deadline, AtomicLong createsSkipped) {
+        Map<String, OperationStats> stats = newStatsMap();
+        // IDs this worker last saw missing (a 404, or its own successful delete)
+        Set<Integer> seenMissing = new HashSet<>();
+        long now;
+        while ((now = System.currentTimeMillis()) < deadline) {
+            String operation = pickOperation();
+            int id = idBase + sampler.next();
+            // Creating an ID that is known to exist is a guaranteed IntegrityError 500, not contention
+            if (operation.equals("create") && !seenMissing.contains(id)) {
+                if (now >= recordFrom) {
+                    createsSkipped.incrementAndGet();
+                }
+                continue;
+            }
+            long begin = System.nanoTime();
+            try {
+                Response response = execute(operation, id, worker);
+                int status = response.getStatusCode();
+                if (now >= recordFrom) {
+                    stats.get(operation).record(status, System.nanoTime() - begin);
+                }
+                if (status == 404 || (operation.equals("delete") && status == 200)) {
+                    seenMissing.add(id);
+                } else {
+                    seenMissing.remove(id);
+                }
+            } catch (Exception e) {
+                if (now >= recordFrom) {
+                    stats.get(operation).recordFailure(System.nanoTime() - begin);
+                }
+            }
+        }
+        return stats;
+    }
+
+    private Response execute(String operation, int id, int worker) {
+        switch (operation) {
+            case "get":
+                return BookService.getBookById(id, token);
+            case "update":
+                return BookService.updateBook(id, hotBook(id, "updated by worker " + worker), token);
+            case "delete":
+                return BookService.deleteBook(id, token);
+            default:
+                // Re-creating with the same ID keeps the hot set from draining; a 5xx here means another worker got there first
+                return BookService.createBook(hotBook(id, "recreated by worker " + worker), token);
+        }
+    }
+
+    private void seedHotSet(int hotSet) {
+        seeded = Math.max(seeded, hotSet);
+        for (int i = 0; i < hotSet; i++) {
+            int id = idBase + i;
+            BookService.deleteBook(id, token);
+            Response response = BookService.createBook(hotBook(id, "seed"), token);
+            if (response.getStatusCode() != 200) {
+                throw new IllegalStateException("Failed to seed hot book " + id + ": " + response.asString());
+            }
+        }
+    }
+
+    // Creates re-add hot IDs during a cell, so every ID up to the largest seeded hot set may exist; 404s are expected
+    private void removeHotSet() {
+        int failures = 0;
+        for (int i = 0; i < seeded; i++) {
+            try {
+                int status = BookService.deleteBook(idBase + i, token).getStatusCode();
+                if (status != 200 && status != 404) {
+                    failures++;
+                }
+            } catch (Exception e) {
+                failures++;
+            }
+        }
+        System.out.println("Removed hot set IDs " + idBase + ".." + (idBase + seeded - 1)
+                + (failures > 0 ? " (" + failures + " deletes failed)" : ""));
+    }
+
+    private static Book hotBook(int id, String summary) {
+        Book book = new Book("HotBook" + id, "perf", 2024, summary);
+        book.setId(id);
+        return book;
+    }
+
+    private String pickOperation() {
+        int roll = ThreadLocalRandom.current().nextInt(mix[mix.length - 1]);
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            if (roll < mix[i]) {
+                return OPERATIONS[i];
+            }
+        }
+        return OPERATIONS[0];
+    }
+
+    private static Map<String, OperationStats> newStatsMap() {
+        Map<String, OperationStats> stats = new LinkedHashMap<>();
+        for (String operation : OPERATIONS) {
+            stats.put(operation, new OperationStats(operation));
+        }
+        return stats;
+    }
+
+    // "get:60,update:25,..." -> cumulative weights in OPERATIONS order
+    private static int[] parseMix(String value) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new RuntimeException("Invalid perf.contention.mix entry: " + part);
+            }
+            weights.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+        }
+        int[] cumulative = new int[OPERATIONS.length];
+        int total = 0;
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            total += weights.getOrDefault(OPERATIONS[i], 0);
+            cumulative[i] = total;
+        }
+        if (total <= 0) {
+            throw new RuntimeException("perf.contention.mix must give at least one operation a positive weight");
+        }
+        return cumulative;
+    }
+}
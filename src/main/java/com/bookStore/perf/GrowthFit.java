@@ -0,0 +1,90 @@
+package com.bookStore.perf;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least squares fit of y = coefficient * x^exponent (a straight line in log-log space).
+ * An exponent near 0 means flat, near 1 means linear in x, above 1 means worse than linear.
+ */
+public class GrowthFit {
+
+    private final double coefficient;
+    private final double exponent;
+    private final double rSquared;
+
+    private GrowthFit(double coefficient, double exponent, double rSquared) {
+        this.coefficient = coefficient;
+        this.exponent = exponent;
+        this.rSquared = rSquared;
+    }
+
+    public static GrowthFit powerLaw(double[] x, double[] y) {
+        if (x.length != y.length || x.length < 2) {
+            throw new IllegalArgumentException("Need at least two points of equal length to fit a growth curve");
+        }
+        int n = x.length;
+        double[] lx = new double[n];
+        double[] ly = new double[n];
+        for (int i = 0; i < n; i++) {
+            // Sub-resolution timings would otherwise hit log(0)
+            lx[i] = Math.log(Math.max(x[i], 1e-9));
+            ly[i] = Math.log(Math.max(y[i], 1e-9));
+        }
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = 0; i < n; i++) {
+            meanX += lx[i] / n;
+            meanY += ly[i] / n;
+        }
+        double sxy = 0;
+        double sxx = 0;
+        double syy = 0;
+        for (int i = 0; i < n; i++) {
+            sxy += (lx[i] - meanX) * (ly[i] - meanY);
+            sxx += (lx[i] - meanX) * (lx[i] - meanX);
+            syy += (ly[i] - meanY) * (ly[i] - meanY);
+        }
+        double slope = sxx == 0 ? 0 : sxy / sxx;
+        double intercept = meanY - slope * meanX;
+        double r2 = (sxx == 0 || syy == 0) ? 1 : (sxy * sxy) / (sxx * syy);
+        return new GrowthFit(Math.exp(intercept), slope, r2);
+    }
+
+    public double predict(double x) {
+        return coefficient * Math.pow(x, exponent);
+    }
+
+    // Smallest x at which the fitted curve reaches target, or -1 if the curve never gets there
+    public double solveFor(double target) {
+        if (exponent <= 0 || coefficient <= 0) {
+            return -1;
+        }
+        return Math.pow(target / coefficient, 1.0 / exponent);
+    }
+
+    public double getExponent() {
+        return exponent;
+    }
+
+    public String describe() {
+        if (exponent < 0.2) {
+            return "O(1)";
+        } else if (exponent < 0.8) {
+            return "sub-linear";
+        } else if (exponent < 1.2) {
+            return "O(n)";
+        }
+        return "super-linear";
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("model", "y = a * n^b");
+        map.put("a", coefficient);
+        map.put("b", exponent);
+        map.put("rSquared", rSquared);
+        map.put("growth", describe());
+        return map;
+    }
+}
@@ -0,0 +1,77 @@
+package com.bookStore.perf;
+
+/**
+ * One completed call in a concurrent history: who issued it, against which key,
+ * what it sent, what came back and when it was invoked and completed.
+ */
+public class HistoryOperation {
+
+    private final int process;
+    private final String key;
+    private final String type;
+    private final String input;
+    private final int status;
+    private final String output;
+    private final long invokeNanos;
+    private final long completeNanos;
+
+    public HistoryOperation(int process, String key, String type, String input, int status, String output, long invokeNanos, long completeNanos) {
+        this.process = process;
+        this.key = key;
+        this.type = type;
+        this.input = input;
+        this.status = status;
+        this.output = output;
+        this.invokeNanos = invokeNanos;
+        this.completeNanos = completeNanos;
+    }
+
+    public int getProcess() {
+        return process;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getInput() {
+        return input;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getOutput() {
+        return output;
+    }
+
+    public long getInvokeNanos() {
+        return invokeNanos;
+    }
+
+    public long getCompleteNanos() {
+        return completeNanos;
+    }
+
+    // 5xx or no response: the call may or may not have taken effect on the server
+    public boolean isIndeterminate() {
+        return status < 0 || status >= 500;
+    }
+
+    // False when the call failed before a status line came back (reset, timeout)
+    public boolean hasResponse() {
+        return status >= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "p" + process + " " + type + "(" + key + (input != null ? ", " + input : "") + ") -> "
+                + status + (output != null ? " " + output : "")
+                + " [" + invokeNanos + ", " + (hasResponse() ? String.valueOf(completeNanos) : "?") + "]";
+    }
+}
@@ -0,0 +1,68 @@
+package com.bookStore.perf;
+
+import java.util.Arrays;
+
+/**
+ * Raw latency samples in nanoseconds. Not thread safe: each worker keeps its own
+ * instance and the results are merged once the workers have finished.
+ */
+public class LatencyStats {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private boolean sorted = true;
+
+    public void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[count++] = nanos;
+        sorted = false;
+    }
+
+    public void merge(LatencyStats other) {
+        for (int i = 0; i < other.count; i++) {
+            record(other.samples[i]);
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        sort();
+        int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+        index = Math.max(0, Math.min(count - 1, index));
+        return samples[index] / 1_000_000.0;
+    }
+
+    public double meanMillis() {
+        if (count == 0) {
+            return 0;
+        }
+        double total = 0;
+        for (int i = 0; i < count; i++) {
+            total += samples[i];
+        }
+        return total / count / 1_000_000.0;
+    }
+
+    public double maxMillis() {
+        return percentileMillis(100);
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(samples, count);
+    }
+
+    private void sort() {
+        if (!sorted) {
+            Arrays.sort(samples, 0, count);
+            sorted = true;
+        }
+    }
+}
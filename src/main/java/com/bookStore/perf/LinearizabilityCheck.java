@@ -0,0 +1,319 @@
+package com.bookStore.perf;
+
+import com.bookStore.base.Book;
+import com.bookStore.base.User;
+import com.bookStore.service.BookService;
+import com.bookStore.service.SignInService;
+import com.bookStore.service.SignUpService;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives concurrent signup/login and book create/read/update/delete on a handful of
+ * shared keys, records the invoke/complete history of every call and checks each key
+ * against a sequential model: an account store keyed by email and a register per book ID.
+ * Racing signups that both succeed show up as duplicate accounts, reads that miss a
+ * completed update as lost updates. Concurrency is ramped so the report shows the
+ * throughput at which the first anomaly appeared.
+ *
+ * Run with: mvn compile exec:java -Dexec.mainClass=com.bookStore.perf.LinearizabilityCheck
+ */
+public class LinearizabilityCheck {
+
+    private final List<Integer> concurrencyLevels = PerfConfig.getIntList("perf.linear.workers", "1,2,4,8,16");
+    private final long durationMillis = PerfConfig.getLong("perf.linear.duration.seconds", 10) * 1000;
+    private final int bookKeys = PerfConfig.getInt("perf.linear.book.keys", 5);
+    private final int userKeys = PerfConfig.getInt("perf.linear.user.keys", 5);
+    private final double bookShare = PerfConfig.getDouble("perf.linear.book.share", 0.7);
+    private final int idBase = PerfConfig.getInt("perf.linear.id.base", 4000000);
+    private final long maxSteps = PerfConfig.getLong("perf.linear.max.steps", 5000000);
+
+    private final AtomicLong sequence = new AtomicLong();
+    private String token;
+
+    public static void main(String[] args) {
+        BenchmarkServer.run(() -> new LinearizabilityCheck().run());
+    }
+
+    public void run() {
+        token = BenchmarkUser.signUpAndLogin("linear");
+        List<Map<String, Object>> levels = new ArrayList<>();
+        Map<String, Object> firstAnomaly = null;
+
+        System.out.printf("%-8s %10s %8s %8s %12s %10s%n", "workers", "ops/s", "ops", "5xx/err", "violations", "unknown");
+        for (int phase = 0; phase < concurrencyLevels.size(); phase++) {
+            int workers = concurrencyLevels.get(phase);
+            Map<String, Object> level = runPhase(phase, workers);
+            levels.add(level);
+            if (firstAnomaly == null && (Integer) level.get("violations") > 0) {
+                firstAnomaly = new LinkedHashMap<>();
+                firstAnomaly.put("workers", workers);
+                firstAnomaly.put("throughputPerSec", level.get("throughputPerSec"));
+            }
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("benchmark", "linearizability");
+        report.put("durationSeconds", durationMillis / 1000);
+        report.put("bookKeys", bookKeys);
+        report.put("userKeys", userKeys);
+        report.put("firstAnomaly", firstAnomaly);
+        report.put("levels", levels);
+        PerfReport.write("linearizability", report);
+        System.out.println(firstAnomaly == null
+                ? "✅ All histories linearizable"
+                : "❌ First non-linearizable history at " + firstAnomaly.get("workers") + " workers, "
+                        + String.format("%.1f", (Double) firstAnomaly.get("throughputPerSec")) + " ops/s");
+    }
+
+    private Map<String, Object> runPhase(int phase, int workers) {
+        List<Integer> books = new ArrayList<>();
+        for (int i = 0; i < bookKeys; i++) {
+            int id = idBase + phase * 1000 + i;
+            BookService.deleteBook(id, token);
+            books.add(id);
+        }
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < userKeys; i++) {
+            emails.add("linear_p" + phase + "_" + i + "_" + UUID.randomUUID().toString().substring(0, 8) + "@mail.com");
+        }
+
+        ConcurrentLinkedQueue<HistoryOperation> history = new ConcurrentLinkedQueue<>();
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        CountDownLatch startGate = new CountDownLatch(1);
+        long deadline = System.currentTimeMillis() + durationMillis;
+        List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < workers; w++) {
+            final int process = w;
+            futures.add(pool.submit(() -> {
+                startGate.await();
+                while (System.currentTimeMillis() < deadline) {
+                    history.add(ThreadLocalRandom.current().nextDouble() < bookShare
+                            ? bookOperation(process, books.get(ThreadLocalRandom.current().nextInt(books.size())))
+                            : userOperation(process, emails.get(ThreadLocalRandom.current().nextInt(emails.size()))));
+                }
+                return null;
+            }));
+        }
+        startGate.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Linearizability worker failed", e);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        Map<String, List<HistoryOperation>> byKey = new LinkedHashMap<>();
+        int indeterminate = 0;
+        for (HistoryOperation op : history) {
+            byKey.computeIfAbsent(op.getKey(), k -> new ArrayList<>()).add(op);
+            if (op.isIndeterminate()) {
+                indeterminate++;
+            }
+        }
+
+        List<Map<String, Object>> anomalies = new ArrayList<>();
+        List<String> unknown = new ArrayList<>();
+        for (Map.Entry<String, List<HistoryOperation>> entry : byKey.entrySet()) {
+            boolean isBook = entry.getKey().startsWith("book:");
+            LinearizabilityChecker.Result result = isBook
+                    ? LinearizabilityChecker.check(entry.getValue(), new BookRegisterModel(), maxSteps)
+                    : LinearizabilityChecker.check(entry.getValue(), new AccountModel(), maxSteps);
+            if (result.getVerdict() == LinearizabilityChecker.Verdict.VIOLATION) {
+                anomalies.add(describe(entry.getKey(), entry.getValue(), result));
+            } else if (result.getVerdict() == LinearizabilityChecker.Verdict.UNKNOWN) {
+                unknown.add(entry.getKey());
+            }
+        }
+
+        double throughput = history.size() / (durationMillis / 1000.0);
+        System.out.printf("%-8d %10.1f %8d %8d %12d %10d%n", workers, throughput, history.size(), indeterminate, anomalies.size(), unknown.size());
+        for (Map<String, Object> anomaly : anomalies) {
+            System.out.println("   ⚠ " + anomaly.get("key") + ": " + anomaly.get("anomaly") + " at " + anomaly.get("stuckAt"));
+        }
+
+        Map<String, Object> level = new LinkedHashMap<>();
+        level.put("workers", workers);
+        level.put("throughputPerSec", throughput);
+        level.put("operations", history.size());
+        level.put("indeterminate", indeterminate);
+        level.put("violations", anomalies.size());
+        level.put("unknownKeys", unknown);
+        level.put("anomalies", anomalies);
+        return level;
+    }
+
+    private HistoryOperation bookOperation(int process, int id) {
+        String key = "book:" + id;
+        int roll = ThreadLocalRandom.current().nextInt(100);
+        String type = roll < 15 ? "create" : roll < 55 ? "read" : roll < 85 ? "update" : "delete";
+        String value = "create".equals(type) || "update".equals(type) ? "v" + sequence.incrementAndGet() : null;
+        long invoke = System.nanoTime();
+        try {
+            Response response;
+            switch (type) {
+                case "create":
+                    response = BookService.createBook(book(id, value), token);
+                    break;
+                case "read":
+                    response = BookService.getBookById(id, token);
+                    break;
+                case "update":
+                    response = BookService.updateBook(id, book(id, value), token);
+                    break;
+                default:
+                    response = BookService.deleteBook(id, token);
+            }
+            long complete = System.nanoTime();
+            String name = "read".equals(type) && response.getStatusCode() == 200
+                    ? JsonPath.from(response.asString()).getString("name") : null;
+            return new HistoryOperation(process, key, type, value, response.getStatusCode(), name, invoke, complete);
+        } catch (Exception e) {
+            return new HistoryOperation(process, key, type, value, -1, null, invoke, System.nanoTime());
+        }
+    }
+
+    // Two possible passwords per email so racing signups are distinguishable at login
+    private HistoryOperation userOperation(int process, String email) {
+        String key = "user:" + email;
+        String password = ThreadLocalRandom.current().nextBoolean() ? "Lin@A" : "Lin@B";
+        User user = new User(BenchmarkUser.newUser("linear").getId(), email, password);
+        boolean signup = ThreadLocalRandom.current().nextBoolean();
+        long invoke = System.nanoTime();
+        try {
+            Response response = signup ? SignUpService.signUp(user) : SignInService.login(user);
+            return new HistoryOperation(process, key, signup ? "signup" : "login", password, response.getStatusCode(), null, invoke, System.nanoTime());
+        } catch (Exception e) {
+            return new HistoryOperation(process, key, signup ? "signup" : "login", password, -1, null, invoke, System.nanoTime());
+        }
+    }
+
+    private static Map<String, Object> describe(String key, List<HistoryOperation> ops, LinearizabilityChecker.Result result) {
+        HistoryOperation stuck = result.getStuckAt();
+        String anomaly;
+        if (key.startsWith("user:")) {
+            long accepted = ops.stream().filter(op -> "signup".equals(op.getType()) && op.getStatus() == 200).count();
+            anomaly = accepted > 1 ? "duplicate account (" + accepted + " successful signups)" : "inconsistent signup/login result";
+        } else if (stuck != null && "read".equals(stuck.getType())) {
+            anomaly = "stale read / lost update";
+        } else {
+            anomaly = "non-linearizable " + (stuck != null ? stuck.getType() : "book") + " result";
+        }
+
+        List<String> history = new ArrayList<>();
+        ops.stream().sorted((a, b) -> Long.compare(a.getInvokeNanos(), b.getInvokeNanos())).forEach(op -> history.add(op.toString()));
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("key", key);
+        map.put("anomaly", anomaly);
+        map.put("stuckAt", stuck != null ? stuck.toString() : null);
+        map.put("history", history);
+        return map;
+    }
+
+    private static Book book(int id, String name) {
+        Book book = new Book(name, "perf", 2024, "Linearizability register");
+        book.setId(id);
+        return book;
+    }
+
+    // Book ID as a register: empty when the row does not exist, otherwise the current name
+    static class BookRegisterModel implements LinearizabilityChecker.Model<Optional<String>> {
+
+        @Override
+        public Optional<String> initial() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> step(Optional<String> state, HistoryOperation op) {
+            boolean unknownOutcome = op.isIndeterminate();
+            int status = op.getStatus();
+            switch (op.getType()) {
+                case "create":
+                    if (!state.isPresent()) {
+                        return unknownOutcome || status == 200 ? Optional.of(op.getInput()) : null;
+                    }
+                    // Creating an existing ID fails with a 500 IntegrityError, which is indeterminate
+                    return unknownOutcome ? state : null;
+                case "read":
+                    if (unknownOutcome) {
+                        return state;
+                    }
+                    if (!state.isPresent()) {
+                        return status == 404 ? state : null;
+                    }
+                    return status == 200 && state.get().equals(op.getOutput()) ? state : null;
+                case "update":
+                    if (!state.isPresent()) {
+                        return unknownOutcome || status == 404 ? state : null;
+                    }
+                    return unknownOutcome || status == 200 ? Optional.of(op.getInput()) : null;
+                case "delete":
+                    if (!state.isPresent()) {
+                        return unknownOutcome || status == 404 ? state : null;
+                    }
+                    return unknownOutcome || status == 200 ? Optional.empty() : null;
+                default:
+                    throw new IllegalArgumentException("Unknown book operation: " + op.getType());
+            }
+        }
+
+        // A 5xx create/update/delete may have written, so only reads and answered 404s qualify
+        @Override
+        public boolean isReadOnly(HistoryOperation op) {
+            if ("read".equals(op.getType())) {
+                return true;
+            }
+            return !op.isIndeterminate() && op.getStatus() == 404;
+        }
+    }
+
+    // Email as a key: empty when unregistered, otherwise the password it was registered with
+    static class AccountModel implements LinearizabilityChecker.Model<Optional<String>> {
+
+        @Override
+        public Optional<String> initial() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> step(Optional<String> state, HistoryOperation op) {
+            boolean unknownOutcome = op.isIndeterminate();
+            int status = op.getStatus();
+            if ("signup".equals(op.getType())) {
+                if (!state.isPresent()) {
+                    return unknownOutcome || status == 200 ? Optional.of(op.getInput()) : null;
+                }
+                return unknownOutcome || status == 400 ? state : null;
+            }
+            if (unknownOutcome) {
+                return state;
+            }
+            boolean valid = state.isPresent() && state.get().equals(op.getInput());
+            return (valid && status == 200) || (!valid && status == 400) ? state : null;
+        }
+
+        // Logins never register anything; neither does a signup answered with 400
+        @Override
+        public boolean isReadOnly(HistoryOperation op) {
+            return !"signup".equals(op.getType()) || (!op.isIndeterminate() && op.getStatus() == 400);
+        }
+    }
+}
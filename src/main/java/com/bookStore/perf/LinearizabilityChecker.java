@@ -0,0 +1,250 @@
+package com.bookStore.perf;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Wing &amp; Gong search with Lowe's memoisation: tries to order the operations of a
+ * single-key history so that every result matches the sequential model and every
+ * operation takes effect between its invoke and complete. A 5xx may or may not have
+ * taken effect, but the server had finished with it by the time it answered. An op
+ * with no response at all may take effect at any later point or not at all.
+ * Linearizability is compositional, so callers check each key separately.
+ */
+public class LinearizabilityChecker {
+
+    public interface Model<S> {
+        S initial();
+
+        // New state after op, or null when op's observed result is impossible in this state
+        S step(S state, HistoryOperation op);
+
+        // True when op leaves every state it is possible in unchanged (a read, a determinate 404).
+        // Such an op can be moved to the front of any later linearization, so the search never
+        // revisits it at another position; an op that is only a no-op in some states must say false
+        default boolean isReadOnly(HistoryOperation op) {
+            return false;
+        }
+    }
+
+    public enum Verdict { LINEARIZABLE, VIOLATION, UNKNOWN }
+
+    public static class Result {
+        private final Verdict verdict;
+        private final HistoryOperation stuckAt;
+        private final long steps;
+
+        Result(Verdict verdict, HistoryOperation stuckAt, long steps) {
+            this.verdict = verdict;
+            this.stuckAt = stuckAt;
+            this.steps = steps;
+        }
+
+        public Verdict getVerdict() {
+            return verdict;
+        }
+
+        // The operation whose result could not be explained on the deepest search path
+        public HistoryOperation getStuckAt() {
+            return stuckAt;
+        }
+
+        public long getSteps() {
+            return steps;
+        }
+    }
+
+    public static <S> Result check(List<HistoryOperation> history, Model<S> model, long maxSteps) {
+        Entry head = build(history);
+        int remainingReturns = 0;
+        for (Entry e = head.next; e != null; e = e.next) {
+            if (!e.call) {
+                remainingReturns++;
+            }
+        }
+
+        S state = model.initial();
+        BitSet linearized = new BitSet(history.size());
+        Deque<Frame<S>> stack = new ArrayDeque<>();
+        Set<CacheKey> cache = new HashSet<>();
+        Entry entry = head.next;
+        HistoryOperation stuckAt = null;
+        int deepest = -1;
+        long steps = 0;
+
+        while (remainingReturns > 0) {
+            if (++steps > maxSteps) {
+                return new Result(Verdict.UNKNOWN, stuckAt, steps);
+            }
+            if (entry != null && entry.call) {
+                S next = model.step(state, entry.op);
+                if (next != null) {
+                    BitSet candidate = (BitSet) linearized.clone();
+                    candidate.set(entry.id);
+                    if (cache.add(new CacheKey(candidate, next))) {
+                        stack.push(new Frame<>(entry, state, model.isReadOnly(entry.op)));
+                        state = next;
+                        linearized = candidate;
+                        lift(entry);
+                        if (entry.match != null) {
+                            remainingReturns--;
+                        }
+                        entry = head.next;
+                        continue;
+                    }
+                }
+                entry = entry.next;
+            } else {
+                // A 5xx that was not linearized yet can still be explained as having had no effect
+                if (entry != null && entry.op.isIndeterminate()) {
+                    BitSet candidate = (BitSet) linearized.clone();
+                    candidate.set(entry.id);
+                    if (cache.add(new CacheKey(candidate, state))) {
+                        Entry call = entry.match;
+                        stack.push(new Frame<>(call, state, false));
+                        linearized = candidate;
+                        lift(call);
+                        remainingReturns--;
+                        entry = head.next;
+                        continue;
+                    }
+                }
+                // A return we could not get past: some op that had to take effect by now could not
+                if (entry != null && stack.size() > deepest) {
+                    deepest = stack.size();
+                    stuckAt = entry.op;
+                }
+                Frame<S> frame;
+                do {
+                    if (stack.isEmpty()) {
+                        return new Result(Verdict.VIOLATION, stuckAt, steps);
+                    }
+                    frame = stack.pop();
+                    state = frame.state;
+                    linearized = (BitSet) linearized.clone();
+                    linearized.clear(frame.entry.id);
+                    unlift(frame.entry);
+                    if (frame.entry.match != null) {
+                        remainingReturns++;
+                    }
+                } while (frame.forced);
+                entry = frame.entry.next;
+            }
+        }
+        return new Result(Verdict.LINEARIZABLE, null, steps);
+    }
+
+    private static Entry build(List<HistoryOperation> history) {
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < history.size(); i++) {
+            HistoryOperation op = history.get(i);
+            Entry call = new Entry(i, op, true, op.getInvokeNanos());
+            entries.add(call);
+            if (op.hasResponse()) {
+                Entry ret = new Entry(i, op, false, op.getCompleteNanos());
+                call.match = ret;
+                ret.match = call;
+                entries.add(ret);
+            }
+        }
+        // On equal timestamps treat the calls as concurrent: calls sort before returns
+        entries.sort(Comparator.comparingLong((Entry e) -> e.time).thenComparing(e -> e.call ? 0 : 1));
+
+        Entry head = new Entry(-1, null, true, Long.MIN_VALUE);
+        Entry previous = head;
+        for (Entry e : entries) {
+            previous.next = e;
+            e.prev = previous;
+            previous = e;
+        }
+        return head;
+    }
+
+    private static void lift(Entry call) {
+        call.prev.next = call.next;
+        if (call.next != null) {
+            call.next.prev = call.prev;
+        }
+        Entry ret = call.match;
+        if (ret != null) {
+            ret.prev.next = ret.next;
+            if (ret.next != null) {
+                ret.next.prev = ret.prev;
+            }
+        }
+    }
+
+    private static void unlift(Entry call) {
+        Entry ret = call.match;
+        if (ret != null) {
+            ret.prev.next = ret;
+            if (ret.next != null) {
+                ret.next.prev = ret;
+            }
+        }
+        call.prev.next = call;
+        if (call.next != null) {
+            call.next.prev = call;
+        }
+    }
+
+    private static class Entry {
+        private final int id;
+        private final HistoryOperation op;
+        private final boolean call;
+        private final long time;
+        private Entry match;
+        private Entry prev;
+        private Entry next;
+
+        Entry(int id, HistoryOperation op, boolean call, long time) {
+            this.id = id;
+            this.op = op;
+            this.call = call;
+            this.time = time;
+        }
+    }
+
+    private static class Frame<S> {
+        private final Entry entry;
+        private final S state;
+        private final boolean forced;
+
+        Frame(Entry entry, S state, boolean forced) {
+            this.entry = entry;
+            this.state = state;
+            this.forced = forced;
+        }
+    }
+
+    private static class CacheKey {
+        private final BitSet linearized;
+        private final Object state;
+
+        CacheKey(BitSet linearized, Object state) {
+            this.linearized = linearized;
+            this.state = state;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return linearized.equals(other.linearized) && Objects.equals(state, other.state);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * linearized.hashCode() + Objects.hashCode(state);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.bookStore.perf;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Latency and status tally for one kind of API call. Like {@link LatencyStats}
+ * it is owned by a single worker and merged afterwards.
+ */
+public class OperationStats {
+
+    private final String name;
+    private final LatencyStats latency = new LatencyStats();
+    private long success;
+    private long notFound;
+    private long clientError;
+    private long serverError;
+    private long transportError;
+
+    public OperationStats(String name) {
+        this.name = name;
+    }
+
+    public void record(int statusCode, long nanos) {
+        latency.record(nanos);
+        if (statusCode / 100 == 2) {
+            success++;
+        } else if (statusCode == 404) {
+            notFound++;
+        } else if (statusCode / 100 == 4) {
+            clientError++;
+        } else {
+            serverError++;
+        }
+    }
+
+    // Connection refused, reset or timed out before a status line was read
+    public void recordFailure(long nanos) {
+        latency.record(nanos);
+        transportError++;
+    }
+
+    public void merge(OperationStats other) {
+        latency.merge(other.latency);
+        success += other.success;
+        notFound += other.notFound;
+        clientError += other.clientError;
+        serverError += other.serverError;
+        transportError += other.transportError;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LatencyStats getLatency() {
+        return latency;
+    }
+
+    public long getTotal() {
+        return latency.getCount();
+    }
+
+    public long getErrors() {
+        return clientError + serverError + transportError;
+    }
+
+    public double rate(long value) {
+        long total = getTotal();
+        return total == 0 ? 0 : (double) value / total;
+    }
+
+    public double errorRate() {
+        return rate(serverError + transportError);
+    }
+
+    public long getSuccess() {
+        return success;
+    }
+
+    public long getNotFound() {
+        return notFound;
+    }
+
+    public long getServerError() {
+        return serverError;
+    }
+
+    public long getTransportError() {
+        return transportError;
+    }
+
+    public Map<String, Object> toMap(double elapsedSeconds) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("operation", name);
+        map.put("count", getTotal());
+        map.put("throughputPerSec", elapsedSeconds > 0 ? getTotal() / elapsedSeconds : 0);
+        map.put("p50Ms", latency.percentileMillis(50));
+        map.put("p95Ms", latency.percentileMillis(95));
+        map.put("p99Ms", latency.percentileMillis(99));
+        map.put("maxMs", latency.maxMillis());
+        map.put("successRate", rate(success));
+        map.put("notFoundRate", rate(notFound));
+        map.put("clientErrorRate", rate(clientError));
+        map.put("serverErrorRate", rate(serverError));
+        map.put("transportErrorRate", rate(transportError));
+        return map;
+    }
+}
@@ -0,0 +1,53 @@
+package com.bookStore.perf;
+
+import com.bookStore.config.ConfigReader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PerfConfig {
+
+    public static String getString(String key, String defaultValue) {
+        return ConfigReader.getProperty(key, defaultValue);
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        return Integer.parseInt(getString(key, String.valueOf(defaultValue)));
+    }
+
+    public static long getLong(String key, long defaultValue) {
+        return Long.parseLong(getString(key, String.valueOf(defaultValue)));
+    }
+
+    public static double getDouble(String key, double defaultValue) {
+        return Double.parseDouble(getString(key, String.valueOf(defaultValue)));
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        return Boolean.parseBoolean(getString(key, String.valueOf(defaultValue)));
+    }
+
+    // Comma separated list such as "1,4,16"
+    public static List<Integer> getIntList(String key, String defaultValue) {
+        List<Integer> values = new ArrayList<>();
+        for (String part : getString(key, defaultValue).split(",")) {
+            if (!part.trim().isEmpty()) {
+                values.add(Integer.parseInt(part.trim()));
+            }
+        }
+        if (values.isEmpty()) {
+            throw new RuntimeException("Config " + key + " must contain at least one value");
+        }
+        return values;
+    }
+
+    public static List<String> getList(String key, String defaultValue) {
+        List<String> values = new ArrayList<>();
+        for (String part : getString(key, defaultValue).split(",")) {
+            if (!part.trim().isEmpty()) {
+                values.add(part.trim());
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,29 @@
+package com.bookStore.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+public class PerfReport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    // Reports land next to the Cucumber output so CI can archive target/ as a whole
+    public static File write(String name, Object report) {
+        String dir = PerfConfig.getString("perf.report.dir", "target" + File.separator + "perf");
+        String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        File file = new File(dir, name + "-" + stamp + ".json");
+        try {
+            file.getParentFile().mkdirs();
+            MAPPER.writeValue(file, report);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write perf report " + file, e);
+        }
+        System.out.println("📄 Perf report written to " + file.getAbsolutePath());
+        return file;
+    }
+}
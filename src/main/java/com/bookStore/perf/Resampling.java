@@ -0,0 +1,99 @@
+package com.bookStore.perf;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Distribution-free statistics for comparing two sets of block measurements.
+ * Block means are rarely normal on a shared host, so the confidence interval comes
+ * from a bootstrap and the significance from a permutation test.
+ */
+public class Resampling {
+
+    public static double mean(double[] values) {
+        double total = 0;
+        for (double value : values) {
+            total += value;
+        }
+        return values.length == 0 ? 0 : total / values.length;
+    }
+
+    // Relative change of b over a, i.e. mean(b) / mean(a) - 1
+    public static double relativeChange(double[] a, double[] b) {
+        double meanA = mean(a);
+        return meanA == 0 ? 0 : mean(b) / meanA - 1;
+    }
+
+    // Percentile bootstrap interval for relativeChange(a, b), e.g. confidence = 0.95
+    public static double[] bootstrapRelativeChange(double[] a, double[] b, int iterations, double confidence, Random random) {
+        double[] estimates = new double[iterations];
+        double[] sampleA = new double[a.length];
+        double[] sampleB = new double[b.length];
+        for (int i = 0; i < iterations; i++) {
+            for (int j = 0; j < a.length; j++) {
+                sampleA[j] = a[random.nextInt(a.length)];
+            }
+            for (int j = 0; j < b.length; j++) {
+                sampleB[j] = b[random.nextInt(b.length)];
+            }
+            estimates[i] = relativeChange(sampleA, sampleB);
+        }
+        Arrays.sort(estimates);
+        double tail = (1 - confidence) / 2;
+        int low = (int) Math.floor(tail * (iterations - 1));
+        int high = (int) Math.ceil((1 - tail) * (iterations - 1));
+        return new double[] {estimates[low], estimates[high]};
+    }
+
+    // Two-sided permutation test on the difference of means
+    public static double permutationPValue(double[] a, double[] b, int iterations, Random random) {
+        double observed = Math.abs(mean(b) - mean(a));
+        double[] pooled = new double[a.length + b.length];
+        System.arraycopy(a, 0, pooled, 0, a.length);
+        System.arraycopy(b, 0, pooled, a.length, b.length);
+
+        int extreme = 0;
+        for (int i = 0; i < iterations; i++) {
+            for (int j = pooled.length - 1; j > 0; j--) {
+                int k = random.nextInt(j + 1);
+                double tmp = pooled[j];
+                pooled[j] = pooled[k];
+                pooled[k] = tmp;
+            }
+            double sumA = 0;
+            double sumB = 0;
+            for (int j = 0; j < pooled.length; j++) {
+                if (j < a.length) {
+                    sumA += pooled[j];
+                } else {
+                    sumB += pooled[j];
+                }
+            }
+            if (Math.abs(sumB / b.length - sumA / a.length) >= observed) {
+                extreme++;
+            }
+        }
+        return (extreme + 1.0) / (iterations + 1.0);
+    }
+
+    // Coefficient of variation of the last window values, or +Inf while fewer are available
+    public static double trailingCv(List<Double> values, int window) {
+        if (values.size() < window) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double[] tail = new double[window];
+        for (int i = 0; i < window; i++) {
+            tail[i] = values.get(values.size() - window + i);
+        }
+        double mean = mean(tail);
+        if (mean == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double variance = 0;
+        for (double value : tail) {
+            variance += (value - mean) * (value - mean);
+        }
+        return Math.sqrt(variance / (window - 1)) / mean;
+    }
+}
@@ -0,0 +1,37 @@
+package com.bookStore.perf;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks ranks 0..size-1 with probability proportional to 1 / (rank + 1)^skew.
+ * A skew of 0 is uniform, around 1 is the classic "a few rows get most of the traffic".
+ */
+public class ZipfSampler {
+
+    private final double[] cumulative;
+
+    public ZipfSampler(int size, double skew) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Zipf size must be positive: " + size);
+        }
+        cumulative = new double[size];
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += 1.0 / Math.pow(i + 1, skew);
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= total;
+        }
+    }
+
+    public int next() {
+        double target = ThreadLocalRandom.current().nextDouble();
+        int index = Arrays.binarySearch(cumulative, target);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return Math.min(index, cumulative.length - 1);
+    }
+}
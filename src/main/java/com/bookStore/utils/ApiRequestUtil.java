@@ -1,6 +1,7 @@
 package com.bookStore.utils;
 
 import com.bookStore.config.ApiConstants;
+import com.bookStore.jfr.HttpCallEvent;
 import io.restassured.response.Response;
 
 import static io.restassured.RestAssured.given;
@@ -8,11 +9,11 @@ import static io.restassured.RestAssured.given;
 public class ApiRequestUtil {
 
     public static Response postRequest(Object body, String endpoint) {
-        return given()
-                .baseUri(ApiConstants.BASE_URI)
+        return HttpCallEvent.record("POST", endpoint, () -> given()
+                .baseUri(BaseUriContext.get())
                 .contentType(ApiConstants.CONTENT_TYPE)
                 .body(body)
                 .when()
-                .post(endpoint);
+                .post(endpoint));
     }
 }
@@ -0,0 +1,330 @@
+package com.bookStore.utils;
+
+import io.restassured.RestAssured;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A set of backend processes, each on its own free port with its own SQLite file,
+ * so parallel workers never share rows or wait on each other's write lock.
+ * A worker leases an instance, which points its thread's BaseUriContext at it,
+ * and closes the lease to hand it back. A background check polls /health and
+ * restarts instances that died or stopped answering, on the same port and database
+ * file so a lease that is held across scenarios stays valid. With fault proxies in
+ * front, a lease points at the instance's own proxy instead of the instance.
+ */
+public class BackendPool implements Closeable {
+
+    private final File backendDir;
+    private final File dataDir;
+    private final String command;
+    private final long startupTimeoutMillis;
+    private final int maxHealthFailures;
+    private final List<Instance> instances = new ArrayList<>();
+    private final BlockingQueue<Instance> idle = new LinkedBlockingQueue<>();
+    private final ScheduledExecutorService monitor;
+    private volatile boolean closed;
+
+    public BackendPool(int size, File backendDir, File dataDir, String command, long startupTimeoutMillis, long healthIntervalMillis, int maxHealthFailures) {
+        this.backendDir = backendDir;
+        this.dataDir = dataDir;
+        this.command = command;
+        this.startupTimeoutMillis = startupTimeoutMillis;
+        this.maxHealthFailures = maxHealthFailures;
+        dataDir.mkdirs();
+        try {
+            for (int i = 0; i < size; i++) {
+                Instance instance = new Instance(i);
+                instances.add(instance);
+                instance.launch();
+            }
+            // Launch all first and wait afterwards, so the instances boot side by side
+            for (Instance instance : instances) {
+                instance.awaitHealthy();
+                idle.add(instance);
+            }
+        } catch (RuntimeException e) {
+            for (Instance instance : instances) {
+                instance.stop();
+            }
+            throw e;
+        }
+        this.monitor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "backend-pool-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        monitor.scheduleWithFixedDelay(this::checkHealth, healthIntervalMillis, healthIntervalMillis, TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "backend-pool-shutdown"));
+    }
+
+    public int size() {
+        return instances.size();
+    }
+
+    public List<String> getBaseUris() {
+        List<String> uris = new ArrayList<>();
+        for (Instance instance : instances) {
+            uris.add(instance.baseUri);
+        }
+        return uris;
+    }
+
+    // One FaultInjectingProxy per instance; call before the first lease. Restarts keep the port, so the proxies outlive them
+    public void putProxiesInFront(FaultProfile defaults, Map<String, FaultProfile> routes) {
+        for (Instance instance : instances) {
+            try {
+                instance.proxy = new FaultInjectingProxy(0, new InetSocketAddress("127.0.0.1", instance.port), defaults, routes).start();
+            } catch (IOException e) {
+                throw new RuntimeException("Fault proxy startup failed for " + instance.baseUri, e);
+            }
+            System.out.println("Fault proxy on " + instance.proxy.getBaseUri() + " -> " + instance.baseUri);
+        }
+    }
+
+    // Blocks until an instance is free; the calling thread's requests go to it until the lease is closed
+    public Lease lease(long timeoutMillis) {
+        if (closed) {
+            throw new IllegalStateException("Backend pool is shut down.");
+        }
+        try {
+            Instance instance = idle.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+            if (instance == null) {
+                throw new RuntimeException("No backend instance became free within " + timeoutMillis + " ms.");
+            }
+            return new Lease(instance);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a backend instance.", e);
+        }
+    }
+
+    private void release(Instance instance) {
+        if (closed) {
+            return;
+        }
+        synchronized (instance) {
+            if (!instance.healthy) {
+                try {
+                    instance.restart();
+                } catch (RuntimeException e) {
+                    System.out.println("Backend instance restart failed: " + e.getMessage());
+                }
+            }
+        }
+        idle.add(instance);
+    }
+
+    private void checkHealth() {
+        for (Instance instance : instances) {
+            if (closed) {
+                return;
+            }
+            boolean alive = instance.process.isAlive() && instance.respondsToHealth();
+            synchronized (instance) {
+                instance.failures = alive ? 0 : instance.failures + 1;
+                if (instance.failures < maxHealthFailures) {
+                    continue;
+                }
+                instance.healthy = false;
+                System.out.println("Backend instance " + instance.baseUri + " failed " + instance.failures + " health checks, restarting.");
+                try {
+                    instance.restart();
+                } catch (RuntimeException e) {
+                    // Left unhealthy; the next check or the release tries again
+                    System.out.println("Backend instance restart failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (monitor != null) {
+            monitor.shutdownNow();
+        }
+        for (Instance instance : instances) {
+            if (instance.proxy != null) {
+                instance.proxy.close();
+            }
+            instance.stop();
+        }
+        System.out.println("🛑 Backend pool stopped (" + instances.size() + " instances).");
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            socket.setReuseAddress(true);
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not find a free port.", e);
+        }
+    }
+
+    public static class Lease implements AutoCloseable {
+        private final Instance instance;
+        private final String previousUri;
+        private final AtomicInteger open = new AtomicInteger(1);
+
+        private Lease(Instance instance) {
+            this.instance = instance;
+            this.previousUri = BaseUriContext.getOverride();
+            BaseUriContext.set(getBaseUri());
+        }
+
+        // The instance's fault proxy when there is one, otherwise the instance itself
+        public String getBaseUri() {
+            return instance.proxy != null ? instance.proxy.getBaseUri() : instance.baseUri;
+        }
+
+        // Must be called on the thread that took the lease, since the base URI override is per thread
+        @Override
+        public void close() {
+            if (open.getAndSet(0) == 0) {
+                return;
+            }
+            if (previousUri == null) {
+                BaseUriContext.clear();
+            } else {
+                BaseUriContext.set(previousUri);
+            }
+            instance.pool().release(instance);
+        }
+    }
+
+    private class Instance {
+        private final int index;
+        private final File dbFile;
+        private Process process;
+        private int port;
+        private volatile String baseUri;
+        private volatile FaultInjectingProxy proxy;
+        private int failures;
+        private volatile boolean healthy;
+
+        Instance(int index) {
+            this.index = index;
+            this.dbFile = new File(dataDir, "backend-" + index + ".db");
+            // Every pool starts from an empty database
+            dbFile.delete();
+        }
+
+        BackendPool pool() {
+            return BackendPool.this;
+        }
+
+        void launch() {
+            if (port == 0) {
+                port = freePort();
+            }
+            baseUri = "http://127.0.0.1:" + port;
+            failures = 0;
+            ProcessBuilder pb = new ProcessBuilder(shell(command.replace("{port}", String.valueOf(port))));
+            pb.directory(backendDir);
+            pb.redirectErrorStream(true);
+            // database.py reads DATABASE_URL, so each instance gets its own SQLite file and its own write lock
+            pb.environment().put("DATABASE_URL", "sqlite:///" + dbFile.getAbsolutePath().replace('\\', '/'));
+            try {
+                process = pb.start();
+            } catch (IOException e) {
+                throw new RuntimeException("Backend instance startup failed.", e);
+            }
+            String tag = "BACKEND " + port + ": ";
+            BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+            Thread logger = new Thread(() -> {
+                String line;
+                try {
+                    while ((line = reader.readLine()) != null) {
+                        System.out.println(tag + line);
+                    }
+                } catch (IOException ignored) {
+                    // process went away
+                }
+            }, "backend-log-" + port);
+            logger.setDaemon(true);
+            logger.start();
+        }
+
+        void awaitHealthy() {
+            long deadline = System.currentTimeMillis() + startupTimeoutMillis;
+            while (System.currentTimeMillis() < deadline) {
+                if (!process.isAlive()) {
+                    throw new RuntimeException("Backend instance on " + baseUri + " exited with code " + process.exitValue() + " during startup.");
+                }
+                if (respondsToHealth()) {
+                    healthy = true;
+                    System.out.println("✅ Backend instance " + index + " up on " + baseUri + " (" + dbFile.getName() + ")");
+                    return;
+                }
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while waiting for " + baseUri, e);
+                }
+            }
+            throw new RuntimeException("Backend instance started but not responding on " + baseUri);
+        }
+
+        boolean respondsToHealth() {
+            try {
+                return RestAssured.given().baseUri(baseUri).get("/health").getStatusCode() == 200;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+
+        // Keeps the port and the database file, so leases and data written before the failure stay valid
+        void restart() {
+            stop();
+            launch();
+            awaitHealthy();
+        }
+
+        void stop() {
+            healthy = false;
+            if (process != null) {
+                // On Windows the shell wrapper is the parent, so the server itself is a descendant
+                process.descendants().forEach(ProcessHandle::destroy);
+                process.destroy();
+                try {
+                    process.waitFor(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private static List<String> shell(String commandLine) {
+        List<String> argv = new ArrayList<>();
+        if (System.getProperty("os.name").toLowerCase().startsWith("windows")) {
+            argv.add("cmd.exe");
+            argv.add("/c");
+        } else {
+            argv.add("sh");
+            argv.add("-c");
+        }
+        argv.add(commandLine);
+        return argv;
+    }
+}
@@ -0,0 +1,52 @@
+package com.bookStore.utils;
+
+import com.bookStore.config.ApiConstants;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread override of the backend base URI used by RestUtil and ApiRequestUtil.
+ * Threads without an override use the process-wide default, which is
+ * ApiConstants.BASE_URI unless something like the fault proxy replaced it.
+ */
+public class BaseUriContext {
+
+    private static final ThreadLocal<String> OVERRIDE = new ThreadLocal<>();
+    private static volatile String defaultUri = ApiConstants.BASE_URI;
+
+    public static String get() {
+        String uri = OVERRIDE.get();
+        return uri != null ? uri : defaultUri;
+    }
+
+    // The calling thread's own override, or null when it follows the default
+    public static String getOverride() {
+        return OVERRIDE.get();
+    }
+
+    public static void setDefault(String uri) {
+        defaultUri = uri != null ? uri : ApiConstants.BASE_URI;
+    }
+
+    public static void set(String uri) {
+        OVERRIDE.set(uri);
+    }
+
+    public static void clear() {
+        OVERRIDE.remove();
+    }
+
+    public static <T> T with(String uri, Supplier<T> call) {
+        String previous = OVERRIDE.get();
+        OVERRIDE.set(uri);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                OVERRIDE.remove();
+            } else {
+                OVERRIDE.set(previous);
+            }
+        }
+    }
+}
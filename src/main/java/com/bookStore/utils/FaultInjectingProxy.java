@@ -0,0 +1,399 @@
+package com.bookStore.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Single-threaded NIO TCP proxy that sits between the tests and the backend and
+ * shapes the traffic: added latency and jitter, bandwidth caps, connection resets
+ * and stalled responses. The route is taken from the HTTP request line seen on the
+ * connection; the longest matching route prefix wins, otherwise the defaults apply.
+ */
+public class FaultInjectingProxy implements Closeable {
+
+    private static final int CHUNK_BYTES = 16 * 1024;
+    private static final int MAX_QUEUED_BYTES = 1024 * 1024;
+    private static final Pattern REQUEST_LINE = Pattern.compile("^(GET|POST|PUT|DELETE|PATCH|HEAD|OPTIONS) (\\S+) HTTP/");
+
+    private final InetSocketAddress upstream;
+    private final FaultProfile defaults;
+    private final Map<String, FaultProfile> routes;
+    private final Selector selector;
+    private final ServerSocketChannel server;
+    private final Set<Connection> connections = new HashSet<>();
+    private final Thread loop;
+    private volatile boolean running = true;
+
+    public FaultInjectingProxy(int listenPort, InetSocketAddress upstream, FaultProfile defaults, Map<String, FaultProfile> routes) throws IOException {
+        this.upstream = upstream;
+        this.defaults = defaults;
+        this.routes = new LinkedHashMap<>(routes);
+        this.selector = Selector.open();
+        this.server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), listenPort));
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+        this.loop = new Thread(this::run, "fault-proxy-" + getPort());
+        loop.setDaemon(true);
+    }
+
+    public FaultInjectingProxy start() {
+        loop.start();
+        return this;
+    }
+
+    public int getPort() {
+        return server.socket().getLocalPort();
+    }
+
+    public String getBaseUri() {
+        return "http://127.0.0.1:" + getPort();
+    }
+
+    public List<String> describe() {
+        List<String> lines = new ArrayList<>();
+        lines.add("default " + defaults);
+        for (Map.Entry<String, FaultProfile> route : routes.entrySet()) {
+            lines.add(route.getKey() + " " + route.getValue());
+        }
+        return lines;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+        try {
+            loop.join(2000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                long wait = nextReleaseAt() - now();
+                if (wait <= 0) {
+                    selector.selectNow();
+                } else {
+                    selector.select(Math.min(wait, 1000));
+                }
+                for (SelectionKey key : selector.selectedKeys()) {
+                    handle(key);
+                }
+                selector.selectedKeys().clear();
+                for (Connection connection : new ArrayList<>(connections)) {
+                    connection.flush();
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Fault proxy stopped: " + e.getMessage());
+        } finally {
+            for (Connection connection : new ArrayList<>(connections)) {
+                connection.close();
+            }
+            closeQuietly(server);
+            closeQuietly(selector);
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+        Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isConnectable()) {
+                connection.finishConnect();
+            }
+            if (key.isValid() && key.isReadable()) {
+                connection.read((SocketChannel) key.channel());
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.flush();
+            }
+        } catch (IOException e) {
+            connection.close();
+        }
+    }
+
+    private void accept() {
+        try {
+            SocketChannel client = server.accept();
+            if (client == null) {
+                return;
+            }
+            client.configureBlocking(false);
+            client.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            SocketChannel backend = SocketChannel.open();
+            backend.configureBlocking(false);
+            backend.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            Connection connection = new Connection(client, backend);
+            connections.add(connection);
+            client.register(selector, SelectionKey.OP_READ, connection);
+            if (backend.connect(upstream)) {
+                connection.connected = true;
+                backend.register(selector, SelectionKey.OP_READ, connection);
+            } else {
+                backend.register(selector, SelectionKey.OP_CONNECT, connection);
+            }
+        } catch (IOException e) {
+            System.out.println("Fault proxy accept failed: " + e.getMessage());
+        }
+    }
+
+    private long nextReleaseAt() {
+        long next = Long.MAX_VALUE;
+        for (Connection connection : connections) {
+            if (connection.connected) {
+                next = Math.min(next, connection.toBackend.nextReleaseAt());
+            }
+            next = Math.min(next, connection.toClient.nextReleaseAt());
+        }
+        return next;
+    }
+
+    private FaultProfile profileFor(String path) {
+        FaultProfile match = defaults;
+        int longest = -1;
+        for (Map.Entry<String, FaultProfile> route : routes.entrySet()) {
+            if (path.startsWith(route.getKey()) && route.getKey().length() > longest) {
+                match = route.getValue();
+                longest = route.getKey().length();
+            }
+        }
+        return match;
+    }
+
+    private static long now() {
+        return System.nanoTime() / 1_000_000;
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+            // already closing
+        }
+    }
+
+    private class Connection {
+        private final SocketChannel client;
+        private final SocketChannel backend;
+        private final Pipe toBackend;
+        private final Pipe toClient;
+        private FaultProfile profile = defaults;
+        private boolean connected;
+        private boolean closed;
+
+        Connection(SocketChannel client, SocketChannel backend) {
+            this.client = client;
+            this.backend = backend;
+            this.toBackend = new Pipe(backend);
+            this.toClient = new Pipe(client);
+        }
+
+        void finishConnect() throws IOException {
+            backend.finishConnect();
+            connected = true;
+            updateInterest();
+        }
+
+        void read(SocketChannel source) throws IOException {
+            boolean fromClient = source == client;
+            Pipe pipe = fromClient ? toBackend : toClient;
+            ByteBuffer buffer = ByteBuffer.allocate(readSize());
+            int read = source.read(buffer);
+            if (read < 0) {
+                pipe.sourceEof = true;
+            } else if (read > 0) {
+                buffer.flip();
+                if (fromClient && onRequest(buffer)) {
+                    return;
+                }
+                pipe.enqueue(buffer);
+            }
+            updateInterest();
+        }
+
+        // Picks the route from a new request line and rolls for resets and stalls; true when the connection was reset
+        private boolean onRequest(ByteBuffer data) {
+            int length = Math.min(data.remaining(), 512);
+            String head = new String(data.array(), data.position(), length, StandardCharsets.ISO_8859_1);
+            Matcher matcher = REQUEST_LINE.matcher(head);
+            if (!matcher.find()) {
+                return false;
+            }
+            profile = profileFor(matcher.group(2));
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (profile.getResetProbability() > 0 && random.nextDouble() < profile.getResetProbability()) {
+                reset();
+                return true;
+            }
+            if (profile.getStallProbability() > 0 && random.nextDouble() < profile.getStallProbability()) {
+                toClient.stallUntil = now() + profile.getStallMs();
+            }
+            return false;
+        }
+
+        private int readSize() {
+            long bandwidth = profile.getBandwidthBytesPerSec();
+            if (bandwidth <= 0) {
+                return CHUNK_BYTES;
+            }
+            // Roughly 20 slices per second keeps the pacing smooth under low caps
+            return (int) Math.max(512, Math.min(CHUNK_BYTES, bandwidth / 20));
+        }
+
+        void flush() {
+            if (closed) {
+                return;
+            }
+            try {
+                if (connected) {
+                    toBackend.flush();
+                }
+                toClient.flush();
+                if (toBackend.outputShutdown && toClient.outputShutdown) {
+                    close();
+                    return;
+                }
+                updateInterest();
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        private void updateInterest() {
+            if (closed) {
+                return;
+            }
+            setInterest(client, (toBackend.acceptsMore() ? SelectionKey.OP_READ : 0) | (toClient.blocked ? SelectionKey.OP_WRITE : 0));
+            if (connected) {
+                setInterest(backend, (toClient.acceptsMore() ? SelectionKey.OP_READ : 0) | (toBackend.blocked ? SelectionKey.OP_WRITE : 0));
+            }
+        }
+
+        private void setInterest(SocketChannel channel, int ops) {
+            SelectionKey key = channel.keyFor(selector);
+            if (key != null && key.isValid() && key.interestOps() != ops) {
+                key.interestOps(ops);
+            }
+        }
+
+        // RST instead of FIN, as a dropped connection looks to the client
+        private void reset() {
+            try {
+                client.setOption(StandardSocketOptions.SO_LINGER, 0);
+            } catch (IOException ignored) {
+                // closing anyway
+            }
+            close();
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            connections.remove(this);
+            closeQuietly(client);
+            closeQuietly(backend);
+        }
+
+        private class Pipe {
+            private final SocketChannel destination;
+            private final ArrayDeque<Chunk> queue = new ArrayDeque<>();
+            private int queuedBytes;
+            private long lastRelease;
+            private long bandwidthCursor;
+            private long stallUntil;
+            private boolean sourceEof;
+            private boolean outputShutdown;
+            private boolean blocked;
+
+            Pipe(SocketChannel destination) {
+                this.destination = destination;
+            }
+
+            void enqueue(ByteBuffer data) {
+                long delay = profile.getLatencyMs();
+                if (profile.getJitterMs() > 0) {
+                    delay += ThreadLocalRandom.current().nextLong(-profile.getJitterMs(), profile.getJitterMs() + 1);
+                }
+                // Never release before an earlier chunk: TCP is in-order
+                long release = Math.max(Math.max(now() + Math.max(0, delay), lastRelease), stallUntil);
+                long bandwidth = profile.getBandwidthBytesPerSec();
+                if (bandwidth > 0) {
+                    release = Math.max(release, bandwidthCursor);
+                    bandwidthCursor = release + data.remaining() * 1000L / bandwidth;
+                }
+                lastRelease = release;
+                queue.add(new Chunk(data, release));
+                queuedBytes += data.remaining();
+            }
+
+            boolean acceptsMore() {
+                return !sourceEof && queuedBytes < MAX_QUEUED_BYTES;
+            }
+
+            long nextReleaseAt() {
+                Chunk head = queue.peek();
+                return head == null || blocked ? Long.MAX_VALUE : head.releaseAt;
+            }
+
+            void flush() throws IOException {
+                long now = now();
+                blocked = false;
+                Chunk head;
+                while ((head = queue.peek()) != null && head.releaseAt <= now) {
+                    int written = destination.write(head.data);
+                    queuedBytes -= written;
+                    if (head.data.hasRemaining()) {
+                        blocked = true;
+                        return;
+                    }
+                    queue.poll();
+                }
+                if (queue.isEmpty() && sourceEof && !outputShutdown) {
+                    destination.shutdownOutput();
+                    outputShutdown = true;
+                }
+            }
+        }
+    }
+
+    private static class Chunk {
+        private final ByteBuffer data;
+        private final long releaseAt;
+
+        Chunk(ByteBuffer data, long releaseAt) {
+            this.data = data;
+            this.releaseAt = releaseAt;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.bookStore.utils;
+
+import com.bookStore.config.ConfigReader;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Network conditions the {@link FaultInjectingProxy} applies to a connection.
+ * Latency and jitter are added in each direction, so the round trip grows by twice the latency.
+ */
+public class FaultProfile {
+
+    private long latencyMs;
+    private long jitterMs;
+    private long bandwidthBytesPerSec;
+    private double resetProbability;
+    private double stallProbability;
+    private long stallMs;
+
+    public FaultProfile() {}
+
+    public FaultProfile(FaultProfile other) {
+        this.latencyMs = other.latencyMs;
+        this.jitterMs = other.jitterMs;
+        this.bandwidthBytesPerSec = other.bandwidthBytesPerSec;
+        this.resetProbability = other.resetProbability;
+        this.stallProbability = other.stallProbability;
+        this.stallMs = other.stallMs;
+    }
+
+    // Reads <prefix>.latency.ms, .jitter.ms, .bandwidth.bytes, .reset.probability, .stall.probability and .stall.ms
+    public static FaultProfile fromConfig(String prefix, FaultProfile defaults) {
+        FaultProfile profile = new FaultProfile(defaults);
+        profile.latencyMs = Long.parseLong(ConfigReader.getProperty(prefix + ".latency.ms", String.valueOf(defaults.latencyMs)));
+        profile.jitterMs = Long.parseLong(ConfigReader.getProperty(prefix + ".jitter.ms", String.valueOf(defaults.jitterMs)));
+        profile.bandwidthBytesPerSec = Long.parseLong(ConfigReader.getProperty(prefix + ".bandwidth.bytes", String.valueOf(defaults.bandwidthBytesPerSec)));
+        profile.resetProbability = Double.parseDouble(ConfigReader.getProperty(prefix + ".reset.probability", String.valueOf(defaults.resetProbability)));
+        profile.stallProbability = Double.parseDouble(ConfigReader.getProperty(prefix + ".stall.probability", String.valueOf(defaults.stallProbability)));
+        profile.stallMs = Long.parseLong(ConfigReader.getProperty(prefix + ".stall.ms", String.valueOf(defaults.stallMs)));
+        return profile;
+    }
+
+    // proxy.routes=/login,/books/ with per-route overrides such as proxy.route./login.latency.ms=200
+    public static Map<String, FaultProfile> routesFromConfig(FaultProfile defaults) {
+        Map<String, FaultProfile> routes = new LinkedHashMap<>();
+        for (String route : ConfigReader.getProperty("proxy.routes", "").split(",")) {
+            if (!route.trim().isEmpty()) {
+                routes.put(route.trim(), fromConfig("proxy.route." + route.trim(), defaults));
+            }
+        }
+        return routes;
+    }
+
+    public long getLatencyMs() {
+        return latencyMs;
+    }
+
+    public FaultProfile setLatencyMs(long latencyMs) {
+        this.latencyMs = latencyMs;
+        return this;
+    }
+
+    public long getJitterMs() {
+        return jitterMs;
+    }
+
+    public FaultProfile setJitterMs(long jitterMs) {
+        this.jitterMs = jitterMs;
+        return this;
+    }
+
+    public long getBandwidthBytesPerSec() {
+        return bandwidthBytesPerSec;
+    }
+
+    // 0 means unlimited
+    public FaultProfile setBandwidthBytesPerSec(long bandwidthBytesPerSec) {
+        this.bandwidthBytesPerSec = bandwidthBytesPerSec;
+        return this;
+    }
+
+    public double getResetProbability() {
+        return resetProbability;
+    }
+
+    public FaultProfile setResetProbability(double resetProbability) {
+        this.resetProbability = resetProbability;
+        return this;
+    }
+
+    public double getStallProbability() {
+        return stallProbability;
+    }
+
+    public FaultProfile setStallProbability(double stallProbability) {
+        this.stallProbability = stallProbability;
+        return this;
+    }
+
+    public long getStallMs() {
+        return stallMs;
+    }
+
+    public FaultProfile setStallMs(long stallMs) {
+        this.stallMs = stallMs;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "FaultProfile{" +
+                "latencyMs=" + latencyMs +
+                ", jitterMs=" + jitterMs +
+                ", bandwidthBytesPerSec=" + bandwidthBytesPerSec +
+                ", resetProbability=" + resetProbability +
+                ", stallProbability=" + stallProbability +
+                ", stallMs=" + stallMs +
+                '}';
+    }
+}
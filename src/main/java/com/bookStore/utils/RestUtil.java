@@ -1,6 +1,6 @@
 package com.bookStore.utils;
 
-import com.bookStore.config.ApiConstants;
+import com.bookStore.jfr.HttpCallEvent;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
@@ -10,38 +10,38 @@ import static io.restassured.RestAssured.given;
 public class RestUtil {
 
     public static Response post(String endpoint, Object body, String token) {
-        return given()
-                .baseUri(ApiConstants.BASE_URI)
+        return HttpCallEvent.record("POST", endpoint, () -> given()
+                .baseUri(BaseUriContext.get())
                 .contentType(ContentType.JSON)
                 .auth().oauth2(token)
                 .body(body)
                 .when()
-                .post(endpoint);
+                .post(endpoint));
     }
 
     public static Response get(String endpoint, String token) {
-        return given()
-                .baseUri(ApiConstants.BASE_URI)
+        return HttpCallEvent.record("GET", endpoint, () -> given()
+                .baseUri(BaseUriContext.get())
                 .auth().oauth2(token)
                 .when()
-                .get(endpoint);
+                .get(endpoint));
     }
 
     public static Response put(String endpoint, Object body, String token) {
-        return given()
-                .baseUri(ApiConstants.BASE_URI)
+        return HttpCallEvent.record("PUT", endpoint, () -> given()
+                .baseUri(BaseUriContext.get())
                 .contentType(ContentType.JSON)
                 .auth().oauth2(token)
                 .body(body)
                 .when()
-                .put(endpoint);
+                .put(endpoint));
     }
 
     public static Response delete(String endpoint, String token) {
-        return given()
-                .baseUri(ApiConstants.BASE_URI)
+        return HttpCallEvent.record("DELETE", endpoint, () -> given()
+                .baseUri(BaseUriContext.get())
                 .auth().oauth2(token)
                 .when()
-                .delete(endpoint);
+                .delete(endpoint));
     }
 }
@@ -4,6 +4,9 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.Map;
 
 import com.bookStore.config.ConfigReader;
 
@@ -11,12 +14,15 @@ import io.restassured.RestAssured;
 
 public class ServerManager {
     private static Process serverProcess;
+    private static FaultInjectingProxy proxy;
+    private static BackendPool pool;
 
     public static void startServer() {
     	
     	if (System.getenv("CI") != null) {
     	    System.out.println("CI environment detected — skipping FastAPI server startup.");
             Allure.step("CI mode: FastAPI server is managed by GitHub Actions.");
+            startProxyFromConfig();
     	    return;
     	}
         try {
@@ -61,6 +67,7 @@ public class ServerManager {
             }
 
             Allure.step("FastAPI Server is up and ready!");
+            startProxyFromConfig();
 
         } catch (IOException | InterruptedException e) {
             throw new RuntimeException("Server startup failed.", e);
@@ -80,7 +87,79 @@ public class ServerManager {
         }
     }
 
+    // proxy.enabled=true routes every RestUtil/ApiRequestUtil call through the fault proxy (see FaultProfile for the keys)
+    public static void startProxyFromConfig() {
+        if (!Boolean.parseBoolean(ConfigReader.getProperty("proxy.enabled", "false"))) {
+            return;
+        }
+        FaultProfile defaults = FaultProfile.fromConfig("proxy.fault", new FaultProfile());
+        startProxy(defaults, FaultProfile.routesFromConfig(defaults));
+    }
+
+    public static String startProxy(FaultProfile defaults, Map<String, FaultProfile> routes) {
+        stopProxy();
+        URI backend = URI.create(ConfigReader.getBaseUri());
+        int port = Integer.parseInt(ConfigReader.getProperty("proxy.port", "0"));
+        try {
+            proxy = new FaultInjectingProxy(port, new InetSocketAddress(backend.getHost(), backend.getPort()), defaults, routes).start();
+        } catch (IOException e) {
+            throw new RuntimeException("Fault proxy startup failed.", e);
+        }
+        BaseUriContext.setDefault(proxy.getBaseUri());
+        Allure.step("Fault proxy on " + proxy.getBaseUri() + " -> " + backend + ": " + proxy.describe());
+        return proxy.getBaseUri();
+    }
+
+    public static void stopProxy() {
+        if (proxy != null) {
+            proxy.close();
+            proxy = null;
+            BaseUriContext.setDefault(null);
+            System.out.println("🛑 Fault proxy stopped.");
+        }
+    }
+
+    // pool.enabled=true gives every parallel worker its own backend process and database (see BackendPool)
+    public static synchronized BackendPool startPool() {
+        if (pool != null) {
+            return pool;
+        }
+        // One instance per worker thread of this JVM; the JUnit runners run scenarios one at a time
+        int size = Integer.parseInt(ConfigReader.getProperty("pool.size", "1"));
+        String projectRoot = System.getProperty("user.dir");
+        File backendDir = new File(projectRoot + File.separator + "bookstore-main" + File.separator + "bookstore");
+        // One directory per JVM, so surefire forks each get their own database files
+        File dataDir = new File(ConfigReader.getProperty("pool.dir", "target/backend-pool"), "fork-" + ProcessHandle.current().pid());
+        Allure.step("----------Backend pool startup (" + size + " instances)---------");
+        pool = new BackendPool(size, backendDir, dataDir,
+                ConfigReader.getProperty("pool.command", "uvicorn main:app --port {port}"),
+                Long.parseLong(ConfigReader.getProperty("pool.startup.timeout.seconds", "30")) * 1000,
+                Long.parseLong(ConfigReader.getProperty("pool.health.interval.ms", "5000")),
+                Integer.parseInt(ConfigReader.getProperty("pool.health.max.failures", "3")));
+        Allure.step("Backend pool is up: " + pool.getBaseUris());
+        // Leases override the per-thread base URI, so the single proxy in front of base.uri would never see their traffic
+        if (Boolean.parseBoolean(ConfigReader.getProperty("proxy.enabled", "false"))) {
+            FaultProfile defaults = FaultProfile.fromConfig("proxy.fault", new FaultProfile());
+            pool.putProxiesInFront(defaults, FaultProfile.routesFromConfig(defaults));
+            Allure.step("Fault proxy in front of every pool instance: default " + defaults);
+        }
+        return pool;
+    }
+
+    public static synchronized BackendPool getPool() {
+        return pool;
+    }
+
+    public static synchronized void stopPool() {
+        if (pool != null) {
+            pool.close();
+            pool = null;
+        }
+    }
+
     public static void stopServer() {
+        stopPool();
+        stopProxy();
         if (serverProcess != null) {
             serverProcess.destroy();
             System.out.println("🛑 FastAPI Server stopped.");
@@ -0,0 +1,121 @@
+package com.bookStore.perf;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+
+public class LinearizabilityCheckerTest {
+
+    private static final long MAX_STEPS = 100000;
+
+    private final LinearizabilityCheck.BookRegisterModel books = new LinearizabilityCheck.BookRegisterModel();
+    private final LinearizabilityCheck.AccountModel accounts = new LinearizabilityCheck.AccountModel();
+
+    private static HistoryOperation op(int process, String type, String input, int status, String output, long invoke, long complete) {
+        return new HistoryOperation(process, "k", type, input, status, output, invoke, complete);
+    }
+
+    private static LinearizabilityChecker.Verdict check(LinearizabilityChecker.Model<Optional<String>> model, HistoryOperation... history) {
+        return LinearizabilityChecker.check(Arrays.asList(history), model, MAX_STEPS).getVerdict();
+    }
+
+    @Test
+    public void sequentialBookHistoryIsLinearizable() {
+        assertEquals(LinearizabilityChecker.Verdict.LINEARIZABLE, check(books,
+                op(0, "create", "v1", 200, null, 0, 1),
+                op(0, "read", null, 200, "v1", 2, 3),
+                op(0, "update", "v2", 200, null, 4, 5),
+                op(0, "read", null, 200, "v2", 6, 7),
+                op(0, "delete", null, 200, null, 8, 9),
+                op(0, "read", null, 404, null, 10, 11)));
+    }
+
+    @Test
+    public void readsOverlappingAnUpdateMaySeeEitherValue() {
+        assertEquals(LinearizabilityChecker.Verdict.LINEARIZABLE, check(books,
+                op(0, "create", "v1", 200, null, 0, 1),
+                op(0, "update", "v2", 200, null, 2, 10),
+                op(1, "read", null, 200, "v1", 3, 4),
+                op(2, "read", null, 200, "v2", 5, 6),
+                op(1, "read", null, 200, "v2", 11, 12)));
+    }
+
+    @Test
+    public void lostUpdateIsAViolation() {
+        assertEquals(LinearizabilityChecker.Verdict.VIOLATION, check(books,
+                op(0, "create", "v1", 200, null, 0, 1),
+                op(0, "update", "v2", 200, null, 2, 3),
+                op(1, "read", null, 200, "v1", 4, 5)));
+    }
+
+    @Test
+    public void readGoingBackInTimeIsAViolation() {
+        assertEquals(LinearizabilityChecker.Verdict.VIOLATION, check(books,
+                op(0, "create", "v1", 200, null, 0, 1),
+                op(0, "update", "v2", 200, null, 2, 10),
+                op(1, "read", null, 200, "v2", 3, 4),
+                op(1, "read", null, 200, "v1", 5, 6)));
+    }
+
+    // The 5xx create is a no-op while v1 exists, but it may still take effect after the delete
+    @Test
+    public void serverErrorCreateMayTakeEffectAfterALaterDelete() {
+        assertEquals(LinearizabilityChecker.Verdict.LINEARIZABLE, check(books,
+                op(0, "create", "v1", 200, null, 0, 1),
+                op(1, "create", "v2", 500, null, 2, 6),
+                op(0, "delete", null, 200, null, 3, 4),
+                op(0, "read", null, 200, "v2", 10, 11)));
+    }
+
+    @Test
+    public void unansweredCreateMayTakeEffectAfterALaterDelete() {
+        assertEquals(LinearizabilityChecker.Verdict.LINEARIZABLE, check(books,
+                op(0, "create", "v1", 200, null, 0, 1),
+                op(1, "create", "v2", -1, null, 2, 6),
+                op(0, "delete", null, 200, null, 3, 4),
+                op(0, "read", null, 200, "v2", 10, 11)));
+    }
+
+    @Test
+    public void serverErrorUpdateMayHaveHadNoEffect() {
+        assertEquals(LinearizabilityChecker.Verdict.LINEARIZABLE, check(books,
+                op(0, "create", "v1", 200, null, 0, 1),
+                op(0, "update", "v2", 500, null, 2, 3),
+                op(1, "read", null, 200, "v1", 4, 5)));
+    }
+
+    @Test
+    public void duplicateSignupIsAViolation() {
+        assertEquals(LinearizabilityChecker.Verdict.VIOLATION, check(accounts,
+                op(0, "signup", "A", 200, null, 0, 5),
+                op(1, "signup", "B", 200, null, 1, 6)));
+    }
+
+    @Test
+    public void racingSignupWithOneWinnerIsLinearizable() {
+        assertEquals(LinearizabilityChecker.Verdict.LINEARIZABLE, check(accounts,
+                op(0, "signup", "A", 200, null, 0, 5),
+                op(1, "signup", "B", 400, null, 1, 6),
+                op(0, "login", "A", 200, null, 7, 8),
+                op(1, "login", "B", 400, null, 9, 10)));
+    }
+
+    @Test
+    public void loginWithTheLosingPasswordIsAViolation() {
+        assertEquals(LinearizabilityChecker.Verdict.VIOLATION, check(accounts,
+                op(0, "signup", "A", 200, null, 0, 5),
+                op(1, "signup", "B", 400, null, 1, 6),
+                op(1, "login", "B", 200, null, 7, 8)));
+    }
+
+    @Test
+    public void exhaustedStepBudgetIsUnknown() {
+        LinearizabilityChecker.Result result = LinearizabilityChecker.check(Arrays.asList(
+                op(0, "create", "v1", 200, null, 0, 1),
+                op(0, "read", null, 200, "v1", 2, 3)), books, 1);
+        assertEquals(LinearizabilityChecker.Verdict.UNKNOWN, result.getVerdict());
+    }
+}
@@ -0,0 +1,51 @@
+package com.bookstore.hooks;
+
+import com.bookStore.config.ConfigReader;
+import com.bookStore.utils.BackendPool;
+import com.bookStore.utils.ServerManager;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+
+/**
+ * Cucumber plugin that, with pool.enabled=true, starts a BackendPool for the run and
+ * leases one instance to each worker thread the first time it runs a scenario. The
+ * lease is kept until the run finishes, because scenarios build on data written by
+ * earlier ones on the same thread. Does nothing otherwise.
+ */
+public class BackendPoolListener implements ConcurrentEventListener {
+
+    // Per listener, so a later runner in the same JVM leases from its own pool
+    private final ThreadLocal<BackendPool.Lease> lease = new ThreadLocal<>();
+
+    private final boolean enabled = Boolean.parseBoolean(ConfigReader.getProperty("pool.enabled", "false"));
+    private final long leaseTimeoutMillis = Long.parseLong(ConfigReader.getProperty("pool.lease.timeout.seconds", "60")) * 1000;
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        if (!enabled) {
+            return;
+        }
+        publisher.registerHandlerFor(TestRunStarted.class, event -> ServerManager.startPool());
+        publisher.registerHandlerFor(TestCaseStarted.class, this::scenarioStarted);
+        publisher.registerHandlerFor(TestRunFinished.class, this::runFinished);
+    }
+
+    private void scenarioStarted(TestCaseStarted event) {
+        if (lease.get() == null) {
+            lease.set(ServerManager.startPool().lease(leaseTimeoutMillis));
+        }
+    }
+
+    // Stands in for @AfterAll, which the runners never load since their glue is only the step definitions
+    private void runFinished(TestRunFinished event) {
+        BackendPool.Lease held = lease.get();
+        if (held != null) {
+            held.close();
+            lease.remove();
+        }
+        ServerManager.stopPool();
+    }
+}
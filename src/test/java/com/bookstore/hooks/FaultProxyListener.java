@@ -0,0 +1,29 @@
+package com.bookstore.hooks;
+
+import com.bookStore.config.ConfigReader;
+import com.bookStore.utils.ServerManager;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+
+/**
+ * Cucumber plugin that, with proxy.enabled=true, puts the fault-injecting proxy in front of
+ * the backend for the whole run. A plugin rather than a hook because the runners' glue only
+ * covers the step definitions.
+ */
+public class FaultProxyListener implements ConcurrentEventListener {
+
+    // With the backend pool on, ServerManager.startPool puts a proxy in front of each instance instead
+    private final boolean enabled = Boolean.parseBoolean(ConfigReader.getProperty("proxy.enabled", "false"))
+            && !Boolean.parseBoolean(ConfigReader.getProperty("pool.enabled", "false"));
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        if (!enabled) {
+            return;
+        }
+        publisher.registerHandlerFor(TestRunStarted.class, event -> ServerManager.startProxyFromConfig());
+        publisher.registerHandlerFor(TestRunFinished.class, event -> ServerManager.stopProxy());
+    }
+}
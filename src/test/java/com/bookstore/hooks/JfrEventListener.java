@@ -0,0 +1,87 @@
+package com.bookstore.hooks;
+
+import com.bookStore.jfr.JfrContext;
+import com.bookStore.jfr.JfrRecorder;
+import com.bookStore.jfr.ScenarioEvent;
+import com.bookStore.jfr.StepEvent;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+
+/**
+ * Cucumber plugin that emits JFR scenario/step events and tags the current thread
+ * so HTTP events from RestUtil carry the scenario name and step text.
+ * Registered as a plugin rather than glue so it sees every scenario of every runner.
+ */
+public class JfrEventListener implements ConcurrentEventListener {
+
+    private static final ThreadLocal<ScenarioEvent> SCENARIO = new ThreadLocal<>();
+    private static final ThreadLocal<StepEvent> STEP = new ThreadLocal<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunStarted.class, event -> JfrRecorder.startIfEnabled("cucumber"));
+        publisher.registerHandlerFor(TestCaseStarted.class, this::scenarioStarted);
+        publisher.registerHandlerFor(TestStepStarted.class, this::stepStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, this::stepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::scenarioFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> JfrRecorder.stop());
+    }
+
+    private void scenarioStarted(TestCaseStarted event) {
+        JfrContext.setScenario(event.getTestCase().getName());
+        ScenarioEvent scenario = new ScenarioEvent();
+        scenario.begin();
+        SCENARIO.set(scenario);
+    }
+
+    private void stepStarted(TestStepStarted event) {
+        if (!(event.getTestStep() instanceof PickleStepTestStep)) {
+            return;
+        }
+        PickleStepTestStep testStep = (PickleStepTestStep) event.getTestStep();
+        String text = testStep.getStep().getKeyword() + testStep.getStep().getText();
+        JfrContext.setStep(text);
+        StepEvent step = new StepEvent();
+        step.begin();
+        STEP.set(step);
+    }
+
+    private void stepFinished(TestStepFinished event) {
+        StepEvent step = STEP.get();
+        if (step == null || !(event.getTestStep() instanceof PickleStepTestStep)) {
+            return;
+        }
+        step.end();
+        if (step.shouldCommit()) {
+            step.scenario = JfrContext.getScenario();
+            step.step = JfrContext.getStep();
+            step.status = event.getResult().getStatus().name();
+            step.commit();
+        }
+        STEP.remove();
+        JfrContext.setStep(null);
+    }
+
+    private void scenarioFinished(TestCaseFinished event) {
+        ScenarioEvent scenario = SCENARIO.get();
+        if (scenario != null) {
+            scenario.end();
+            if (scenario.shouldCommit()) {
+                scenario.scenario = event.getTestCase().getName();
+                scenario.uri = String.valueOf(event.getTestCase().getUri());
+                scenario.line = event.getTestCase().getLocation().getLine();
+                scenario.status = event.getResult().getStatus().name();
+                scenario.commit();
+            }
+        }
+        SCENARIO.remove();
+        JfrContext.clear();
+    }
+}
@@ -10,6 +10,9 @@ import io.cucumber.junit.CucumberOptions;
     glue = "com.bookstore.stepdefs",
     plugin = {
         "pretty",
+        "com.bookstore.hooks.JfrEventListener",
+        "com.bookstore.hooks.FaultProxyListener",
+        "com.bookstore.hooks.BackendPoolListener",
         "html:target/extent-report.html",
         "json:target/cucumber.json"
     },
@@ -10,7 +10,10 @@ import org.junit.runner.RunWith;
     glue = "com.bookstore.stepdefs",
     plugin = {
         "pretty",
-        "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm"
+        "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm",
+        "com.bookstore.hooks.JfrEventListener",
+        "com.bookstore.hooks.FaultProxyListener",
+        "com.bookstore.hooks.BackendPoolListener"
     }
 )
 public class TestRunner {
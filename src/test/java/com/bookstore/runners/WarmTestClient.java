@@ -0,0 +1,76 @@
+package com.bookstore.runners;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Sends one command to a running {@link WarmTestDaemon} and exits with the run's status.
+ * Only uses JDK classes so it starts instantly from target/test-classes:
+ *
+ *   java -cp target/test-classes com.bookstore.runners.WarmTestClient --tags @smoke
+ *   java -cp target/test-classes com.bookstore.runners.WarmTestClient --tags "@smoke and not @wip"
+ *   java -cp target/test-classes com.bookstore.runners.WarmTestClient shutdown
+ */
+public class WarmTestClient {
+
+    public static void main(String[] args) throws IOException {
+        int port = Integer.parseInt(daemonPort());
+        List<String> command = new ArrayList<>();
+        if (args.length == 0 || !(args[0].equals("ping") || args[0].equals("shutdown") || args[0].equals("run"))) {
+            command.add("run");
+        }
+        command.addAll(Arrays.asList(args));
+
+        int status = 1;
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            PrintStream out = new PrintStream(socket.getOutputStream(), true, "UTF-8");
+            // One argument per line, so tag expressions and paths with spaces arrive intact; a blank line ends the command
+            for (String arg : command) {
+                if (!arg.isEmpty()) {
+                    out.println(arg);
+                }
+            }
+            out.println();
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.startsWith("EXIT ")) {
+                    status = Integer.parseInt(line.substring(5).trim());
+                } else {
+                    System.out.println(line);
+                }
+            }
+        }
+        System.exit(status);
+    }
+
+    // Same lookup as ConfigReader.getProperty on the daemon side: -Ddaemon.port, then config.properties, then 7799
+    private static String daemonPort() throws IOException {
+        String port = System.getProperty("daemon.port");
+        if (port != null && !port.trim().isEmpty()) {
+            return port.trim();
+        }
+        Properties properties = new Properties();
+        Path config = Paths.get(System.getProperty("user.dir"), "src", "test", "resources", "config.properties");
+        if (Files.exists(config)) {
+            try (InputStream in = Files.newInputStream(config)) {
+                properties.load(in);
+            }
+        }
+        port = properties.getProperty("daemon.port");
+        return port == null || port.trim().isEmpty() ? "7799" : port.trim();
+    }
+}
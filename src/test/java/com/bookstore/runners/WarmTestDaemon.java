@@ -0,0 +1,193 @@
+package com.bookstore.runners;
+
+import com.bookStore.config.ConfigReader;
+import com.bookStore.utils.ServerManager;
+import io.cucumber.core.cli.Main;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Long-lived Cucumber runner. The glue, RestAssured/Groovy and the JIT stay warm
+ * between runs, so re-running a feature after an edit costs seconds instead of a
+ * full mvn verify. Listens on 127.0.0.1 only and runs one command at a time.
+ *
+ * Protocol, one command per connection, sent one argument per line and ended by a blank line:
+ *   run [cucumber cli args]   e.g. "run", "--tags", "@smoke and not @wip"
+ *   ping
+ *   shutdown
+ * Output of a run is streamed back and finished with "EXIT <status>".
+ *
+ * Start with: mvn -Pwarm-daemon -DskipTests package exec:exec
+ */
+public class WarmTestDaemon {
+
+    // Source tree rather than classpath:features so edits are picked up without a resources copy
+    private static final String FEATURES = "src/test/resources/features";
+    private static final String GLUE = "com.bookstore.stepdefs";
+    // Cucumber CLI options that consume the next argument
+    private static final Set<String> OPTIONS_WITH_VALUE = new HashSet<>(Arrays.asList(
+            "--tags", "-t", "--name", "-n", "--glue", "-g", "--plugin", "-p", "--threads", "--order",
+            "--count", "--snippets", "--object-factory", "--uuid-generator", "--i18n"));
+
+    private final int port = Integer.parseInt(ConfigReader.getProperty("daemon.port", "7799"));
+    private boolean startedServer;
+
+    public static void main(String[] args) throws IOException {
+        new WarmTestDaemon().serve();
+    }
+
+    public void serve() throws IOException {
+        if (!ServerManager.isServerRunning()) {
+            ServerManager.startServer();
+            startedServer = true;
+        } else {
+            // startServer brings the proxy up itself; an external backend still gets it when proxy.enabled=true
+            ServerManager.startProxyFromConfig();
+        }
+        warmUp();
+
+        try (ServerSocket server = new ServerSocket(port, 1, InetAddress.getLoopbackAddress())) {
+            System.out.println("🔥 Warm test daemon listening on 127.0.0.1:" + port);
+            boolean running = true;
+            while (running) {
+                try (Socket socket = server.accept()) {
+                    running = handle(socket);
+                } catch (IOException e) {
+                    System.out.println("Daemon connection failed: " + e.getMessage());
+                }
+            }
+        } finally {
+            if (startedServer) {
+                ServerManager.stopServer();
+            } else {
+                ServerManager.stopProxy();
+            }
+        }
+        System.out.println("Warm test daemon stopped.");
+    }
+
+    // A dry run loads every glue class and parses the features once before the first real command
+    private void warmUp() {
+        long start = System.currentTimeMillis();
+        Main.run(new String[] {"--dry-run", "--glue", GLUE, "--plugin", "summary", FEATURES},
+                Thread.currentThread().getContextClassLoader());
+        System.out.println("Glue and features warmed up in " + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    private boolean handle(Socket socket) throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        PrintStream out = new PrintStream(socket.getOutputStream(), true, "UTF-8");
+        List<String> words = new ArrayList<>();
+        String line;
+        while ((line = in.readLine()) != null && !line.isEmpty()) {
+            words.add(line);
+        }
+        if (words.isEmpty()) {
+            return true;
+        }
+        String command = words.remove(0).trim();
+        switch (command) {
+            case "ping":
+                out.println("pong");
+                return true;
+            case "shutdown":
+                out.println("EXIT 0");
+                return false;
+            case "run":
+                out.println("EXIT " + runCucumber(words, out));
+                return true;
+            default:
+                out.println("Unknown command: " + command + " (expected run, ping or shutdown)");
+                out.println("EXIT 2");
+                return true;
+        }
+    }
+
+    private int runCucumber(List<String> args, PrintStream client) {
+        List<String> argv = new ArrayList<>();
+        argv.add("--glue");
+        argv.add(GLUE);
+        argv.add("--plugin");
+        argv.add("pretty");
+        argv.add("--plugin");
+        argv.add("com.bookstore.hooks.JfrEventListener");
+        argv.add("--monochrome");
+        argv.addAll(args);
+        if (!hasFeaturePath(args)) {
+            argv.add(FEATURES);
+        }
+
+        // Plugins grab System.out when they are created, so swapping it per run streams the report to the client
+        PrintStream original = System.out;
+        PrintStream tee = new PrintStream(new TeeOutputStream(original, client), true);
+        long start = System.currentTimeMillis();
+        System.setOut(tee);
+        try {
+            return Main.run(argv.toArray(new String[0]), Thread.currentThread().getContextClassLoader());
+        } catch (RuntimeException e) {
+            e.printStackTrace(tee);
+            return 1;
+        } finally {
+            tee.flush();
+            System.setOut(original);
+            client.println("Run finished in " + (System.currentTimeMillis() - start) + " ms");
+        }
+    }
+
+    // Anything that is not an option or an option's value is a feature path
+    private static boolean hasFeaturePath(List<String> args) {
+        for (int i = 0; i < args.size(); i++) {
+            String arg = args.get(i);
+            if (arg.startsWith("-")) {
+                // Every other option (--publish, --no-dry-run, -w, ...) is a flag
+                if (OPTIONS_WITH_VALUE.contains(arg)) {
+                    i++;
+                }
+                continue;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static class TeeOutputStream extends OutputStream {
+        private final OutputStream first;
+        private final OutputStream second;
+
+        TeeOutputStream(OutputStream first, OutputStream second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            first.write(b);
+            second.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            first.write(b, off, len);
+            second.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            first.flush();
+            second.flush();
+        }
+    }
+}